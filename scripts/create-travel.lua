@@ -0,0 +1,14 @@
+-- Creates travels with ids over the travels loaded by the load test, so the store size stays
+-- the same during the test.
+
+local travels = tonumber(os.getenv("TRAVELS") or "100000")
+
+wrk.method = "POST"
+wrk.headers["Content-Type"] = "application/json"
+
+request = function()
+	local id = math.random(1, travels)
+	local body = string.format('{"id": %d, "orderNumber": "%d", "amount": "22.88", ' ..
+		'"startDate": "2019-11-21T09:59:51.312Z", "type": "ONE-WAY"}', id, id)
+	return wrk.format(nil, nil, nil, body)
+end
@@ -0,0 +1,7 @@
+-- Requests the travels by order number, spread over the travels loaded by the load test.
+
+local travels = tonumber(os.getenv("TRAVELS") or "100000")
+
+request = function()
+	return wrk.format("GET", wrk.path .. "/" .. math.random(1, travels))
+end
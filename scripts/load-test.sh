@@ -0,0 +1,77 @@
+#!/usr/bin/env bash
+#
+# Load test of the travels API in each execution mode (thread-per-request and async), with wrk
+# (https://github.com/wg/wrk). For each mode, the API is started, loaded with travels, and each 
+# scenario runs with the same number of open connections, printing the requests per second 
+# sustained and the latency percentiles (p50, p75, p90 and p99).
+#
+# Usage: scripts/load-test.sh [connections] [duration] [threads]
+#
+# The defaults are 10000 connections, for 60s, with 8 wrk threads. The limit of open files must
+# be greater than the number of connections, for wrk and for the API (ulimit -n). The API runs 
+# with the JVM options of JAVA_OPTS (default -Xmx2g): in the async mode, every open connection 
+# has a request in flight, whose buffers take about 1 GB of heap with 10000 connections.
+#
+# @author Mariana Azevedo
+# @since 18/10/2026
+
+set -euo pipefail
+
+CONNECTIONS=${1:-10000}
+DURATION=${2:-60s}
+THREADS=${3:-8}
+TRAVELS=${TRAVELS:-100000}
+PORT=${PORT:-8080}
+MODES=${MODES:-"thread-per-request async"}
+JAVA_OPTS=${JAVA_OPTS:-"-Xmx2g"}
+
+BASE_DIR=$(cd "$(dirname "$0")/.." && pwd)
+URL="http://localhost:${PORT}/api-travels"
+
+command -v wrk > /dev/null || { echo "wrk not found in the PATH."; exit 1; }
+ulimit -n $((CONNECTIONS + 1024)) 2> /dev/null || echo "Warning: the limit of open files is $(ulimit -n)."
+
+JAR=$(ls "${BASE_DIR}"/target/travels-api-*.jar 2> /dev/null | head -1 || true)
+if [ -z "${JAR}" ]; then
+	(cd "${BASE_DIR}" && mvn -B -q package -DskipTests)
+	JAR=$(ls "${BASE_DIR}"/target/travels-api-*.jar | head -1)
+fi
+
+start_api() {
+	java ${JAVA_OPTS} -jar "${JAR}" --spring.profiles.active=dev --server.port="${PORT}" \
+		--travels.execution-mode="$1" --server.tomcat.max-connections=$((CONNECTIONS + 1000)) \
+		--server.tomcat.accept-count=1000 > "${BASE_DIR}/target/load-test-$1.log" 2>&1 &
+	API_PID=$!
+	until curl -s -o /dev/null "${URL}/statistics"; do sleep 1; done
+}
+
+stop_api() {
+	kill "${API_PID}" && wait "${API_PID}" 2> /dev/null || true
+}
+
+load_travels() {
+	for ((first = 1; first <= TRAVELS; first += 10000)); do
+		seq "${first}" $((first + 9999 < TRAVELS ? first + 9999 : TRAVELS)) | awk '{
+			printf "{\"id\": %d, \"orderNumber\": \"%d\", \"amount\": \"%d.%02d\", \"startDate\": \"2019-11-21T09:59:51.312Z\", \"type\": \"ONE-WAY\"}\n", $1, $1, $1 % 1000, $1 % 100
+		}' | curl -s -o /dev/null -H "Content-Type: application/x-ndjson" --data-binary @- "${URL}/travels/batch"
+	done
+}
+
+run() {
+	echo "### $1 - $2"
+	wrk -t"${THREADS}" -c"${CONNECTIONS}" -d"${DURATION}" --timeout 30s --latency "${@:3}" | \
+		grep -E "Requests/sec|Latency|50%|75%|90%|99%|Non-2xx|Socket errors"
+}
+
+trap 'stop_api' EXIT
+
+for mode in ${MODES}; do
+	start_api "${mode}"
+	load_travels
+	
+	run "${mode}" "GET /statistics" "${URL}/statistics"
+	run "${mode}" "GET /travels/{orderNumber}" -s "${BASE_DIR}/scripts/find-travel.lua" "${URL}/travels"
+	run "${mode}" "POST /travels" -s "${BASE_DIR}/scripts/create-travel.lua" "${URL}/travels"
+	
+	stop_api
+done
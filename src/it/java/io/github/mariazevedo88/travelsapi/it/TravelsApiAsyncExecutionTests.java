@@ -0,0 +1,139 @@
+package io.github.mariazevedo88.travelsapi.it;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.github.mariazevedo88.travelsapi.dto.TravelDTO;
+import io.github.mariazevedo88.travelsapi.enumeration.TravelTypeEnum;
+
+/**
+ * Class that implements the tests of the API in the <code>async</code> execution mode, through
+ * a server listening on a random port.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = { "travels.execution-mode=async", 
+		"travels.execution.threads=2" })
+@ActiveProfiles("test")
+@TestInstance(Lifecycle.PER_CLASS)
+public class TravelsApiAsyncExecutionTests {
+	
+	private static final int REQUESTS = 200;
+	
+	@Autowired
+	private TestRestTemplate restTemplate;
+	
+	@Autowired
+	private ThreadPoolTaskExecutor requestExecutor;
+	
+	private final ExecutorService clients = Executors.newFixedThreadPool(16);
+	
+	@AfterAll
+	public void tearDown() {
+		clients.shutdown();
+		restTemplate.delete("/api-travels/travels");
+	}
+	
+	@Test
+	public void shouldReturnResponsesOfConcurrentRequests() throws Exception {
+		
+		List<CompletableFuture<ResponseEntity<String>>> responses = new ArrayList<>();
+		for(long id = 1; id <= REQUESTS; id++) {
+			TravelDTO travel = new TravelDTO(id, String.valueOf(id), "22.88", "2019-11-21T09:59:51.312Z", 
+					null, TravelTypeEnum.ONE_WAY.getValue());
+			responses.add(CompletableFuture.supplyAsync(() -> 
+				restTemplate.postForEntity("/api-travels/travels", travel, String.class), clients));
+		}
+		
+		for(CompletableFuture<ResponseEntity<String>> response : responses) {
+			assertEquals(HttpStatus.CREATED, response.get().getStatusCode());
+		}
+		
+		ResponseEntity<String> statistics = restTemplate.getForEntity("/api-travels/statistics", String.class);
+		assertEquals(HttpStatus.OK, statistics.getStatusCode());
+		assertTrue(statistics.getBody().contains("\"count\":" + REQUESTS));
+		
+		HttpHeaders conditional = new HttpHeaders();
+		conditional.setIfNoneMatch(statistics.getHeaders().getETag());
+		assertEquals(HttpStatus.NOT_MODIFIED, restTemplate.exchange("/api-travels/statistics", HttpMethod.GET, 
+				new HttpEntity<>(conditional), String.class).getStatusCode());
+		
+		assertEquals(HttpStatus.OK, restTemplate.getForEntity("/api-travels/travels/1", String.class).getStatusCode());
+		assertEquals(HttpStatus.NOT_FOUND, restTemplate.getForEntity("/api-travels/travels/0", String.class).getStatusCode());
+		
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.APPLICATION_JSON);
+		assertEquals(HttpStatus.BAD_REQUEST, restTemplate.postForEntity("/api-travels/travels", 
+				new HttpEntity<>("{\"id\": ", headers), String.class).getStatusCode());
+	}
+	
+	@Test
+	public void shouldReturnRequestExecutorManagedByTheContext() {
+		assertEquals(2, requestExecutor.getCorePoolSize());
+		assertEquals("travels-request-", requestExecutor.getThreadNamePrefix());
+		assertTrue(requestExecutor.getThreadPoolExecutor() != null);
+	}
+	
+	@Test
+	public void shouldReturnExportExecutedByTheServerThreads() {
+		
+		ResponseEntity<String> export = restTemplate.getForEntity("/api-travels/travels/export", String.class);
+		assertEquals(HttpStatus.OK, export.getStatusCode());
+		assertTrue(export.getBody().startsWith("["));
+	}
+	
+	@Test
+	public void shouldReturnCompressedResponsesWrittenAsynchronously() throws Exception {
+		
+		List<TravelDTO> travels = new ArrayList<>();
+		for(long id = 1; id <= 100; id++) {
+			travels.add(new TravelDTO(id, String.valueOf(id), "22.88", "2019-11-21T09:59:51.312Z", null, 
+					TravelTypeEnum.ONE_WAY.getValue()));
+		}
+		assertEquals(HttpStatus.OK, restTemplate.postForEntity("/api-travels/travels/batch", travels, String.class)
+				.getStatusCode());
+		
+		HttpHeaders headers = new HttpHeaders();
+		headers.set(HttpHeaders.ACCEPT_ENCODING, "gzip");
+		
+		for(String path : List.of("/api-travels/travels", "/api-travels/travels/export")) {
+			ResponseEntity<byte[]> response = restTemplate.exchange(path, HttpMethod.GET, new HttpEntity<>(headers), 
+					byte[].class);
+			assertEquals(HttpStatus.OK, response.getStatusCode());
+			assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+			assertEquals(-1, response.getHeaders().getContentLength());
+			
+			String json = new String(new GZIPInputStream(new ByteArrayInputStream(response.getBody())).readAllBytes(), 
+					StandardCharsets.UTF_8);
+			assertTrue(json.startsWith("[{\"id\":1,") && json.endsWith("]"));
+		}
+	}
+
+}
@@ -3,10 +3,28 @@ package io.github.mariazevedo88.travelsapi.it;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
 import org.json.simple.JSONObject;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
@@ -19,12 +37,17 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockitoTestExecutionListener;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestExecutionListeners;
 import org.springframework.test.context.support.DependencyInjectionTestExecutionListener;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.github.luben.zstd.ZstdInputStream;
 
 import io.github.mariazevedo88.travelsapi.enumeration.TravelTypeEnum;
 
@@ -78,10 +101,408 @@ public class TravelsApiIntegrationTests {
 	
 	@Test
 	@Order(5)
+    public void shouldReturnGetTravelsByOrderNumber() throws Exception {
+		this.mockMvc.perform(get("/api-travels/travels/220788")).andExpect(status().isOk());
+		this.mockMvc.perform(get("/api-travels/travels/999999")).andExpect(status().isNotFound());
+    }
+	
+	@Test
+	@Order(6)
+    public void shouldReturnUpdateNotFoundTravel() throws Exception {
+		
+		JSONObject mapToUpdate = setObjectToUpdate();
+		this.mockMvc.perform(put("/api-travels/travels/999").contentType(MediaType.APPLICATION_JSON_VALUE)
+        		.content(new ObjectMapper().writeValueAsString(mapToUpdate))).andExpect(status().isNotFound());
+    }
+	
+	@Test
+	@Order(7)
+	@SuppressWarnings("unchecked")
+    public void shouldReturnCreateBatchOfTravels() throws Exception {
+		
+		JSONObject travelWithInvalidDates = setObjectToCreate();
+		travelWithInvalidDates.put("id", 2);
+		travelWithInvalidDates.put("endDate", "2019-11-01T21:08:45.202Z");
+		
+		JSONObject travelWithInvalidAmount = setObjectToCreate();
+		travelWithInvalidAmount.put("id", 3);
+		travelWithInvalidAmount.put("amount", "22,88");
+		
+		this.mockMvc.perform(post("/api-travels/travels/batch").contentType(MediaType.APPLICATION_JSON_VALUE)
+				.content(new ObjectMapper().writeValueAsString(List.of(setObjectToCreate(), travelWithInvalidDates, 
+						travelWithInvalidAmount))))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$[0].status").value(201))
+			.andExpect(jsonPath("$[0].id").value(1))
+			.andExpect(jsonPath("$[1].status").value(422))
+			.andExpect(jsonPath("$[2].status").value(422));
+    }
+	
+	@Test
+	@Order(8)
+	@SuppressWarnings("unchecked")
+    public void shouldReturnCreateBatchOfTravelsFromNdjson() throws Exception {
+		
+		JSONObject travel = setObjectToCreate();
+		travel.put("id", 4);
+		String ndjson = new ObjectMapper().writeValueAsString(travel) + "\n{\"id\": 5,\n" 
+				+ new ObjectMapper().writeValueAsString(setObjectToCreate()) + "\n";
+		
+		this.mockMvc.perform(post("/api-travels/travels/batch").contentType("application/x-ndjson").content(ndjson))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$[0].status").value(201))
+			.andExpect(jsonPath("$[0].id").value(4))
+			.andExpect(jsonPath("$[1].status").value(400))
+			.andExpect(jsonPath("$[2].status").value(201));
+    }
+	
+	@Test
+	@Order(9)
+	@SuppressWarnings("unchecked")
+    public void shouldReturnIngestStreamOfTravels() throws Exception {
+		
+		StringBuilder ndjson = new StringBuilder();
+		for(int id = 10; id < 1010; id++) {
+			JSONObject travel = setObjectToCreate();
+			travel.put("id", id);
+			ndjson.append(new ObjectMapper().writeValueAsString(travel)).append('\n');
+		}
+		ndjson.append("42\n{\"id\": 1010, \"amount\": \"abc\"}\n{\"id\": ");
+		
+		this.mockMvc.perform(post("/api-travels/travels/stream").contentType("application/x-ndjson").content(ndjson.toString()))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.accepted").value(1000))
+			.andExpect(jsonPath("$.rejected").value(3))
+			.andExpect(jsonPath("$.errors[0].index").value(1000))
+			.andExpect(jsonPath("$.errors[0].status").value(400))
+			.andExpect(jsonPath("$.errors[1].status").value(422))
+			.andExpect(jsonPath("$.errors[2].status").value(400));
+		
+		this.mockMvc.perform(post("/api-travels/travels/stream").contentType(MediaType.APPLICATION_JSON_VALUE)
+				.content(new ObjectMapper().writeValueAsString(List.of(setObjectToCreate()))))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.accepted").value(1))
+			.andExpect(jsonPath("$.rejected").value(0));
+    }
+	
+	@Test
+	@Order(10)
+    public void shouldReturnPagesOfTravels() throws Exception {
+		
+		this.mockMvc.perform(get("/api-travels/travels").param("after", "10").param("limit", "5"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.length()").value(5))
+			.andExpect(jsonPath("$[0].id").value(11))
+			.andExpect(jsonPath("$[4].id").value(15))
+			.andExpect(header().string("Link", containsString("after=15")));
+		
+		this.mockMvc.perform(get("/api-travels/travels").param("after", "1000").param("type", "RETURN")
+				.param("startFrom", "2019-11-21T00:00:00.000Z").param("startTo", "2019-11-22T00:00:00.000Z"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.length()").value(9))
+			.andExpect(header().doesNotExist("Link"));
+		
+		this.mockMvc.perform(get("/api-travels/travels").param("type", "ONE-WAY").param("after", "4"))
+			.andExpect(status().isNotFound());
+		
+		this.mockMvc.perform(get("/api-travels/travels").param("startFrom", "yesterday"))
+			.andExpect(status().isBadRequest());
+
+		this.mockMvc.perform(get("/api-travels/travels").param("after", "1000").param("afterStart", "2019-11-21T09:59:51.312Z")
+				.param("from", "2019-12-01T21:08:45.202Z").param("to", "2019-12-10T00:00:00.000Z"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.length()").value(9))
+			.andExpect(jsonPath("$[0].id").value(1001));
+
+		this.mockMvc.perform(get("/api-travels/travels").param("after", "1000").param("limit", "5")
+				.param("afterStart", "2019-11-21T09:59:51.312Z")
+				.param("from", "2019-12-01T21:08:45.202Z").param("to", "2019-12-10T00:00:00.000Z"))
+			.andExpect(status().isOk())
+			.andExpect(header().string("Link", containsString("after=1005")))
+			.andExpect(header().string("Link", containsString("afterStart=2019-11-21T09:59:51.312Z")));
+
+		this.mockMvc.perform(get("/api-travels/travels").param("after", "1000")
+				.param("from", "2019-12-01T21:08:45.202Z").param("to", "2019-12-10T00:00:00.000Z"))
+			.andExpect(status().isBadRequest());
+
+		this.mockMvc.perform(get("/api-travels/travels")
+				.param("from", "2019-12-01T21:08:45.203Z").param("to", "2019-12-10T00:00:00.000Z"))
+			.andExpect(status().isNotFound());
+
+		this.mockMvc.perform(get("/api-travels/travels").param("from", "2019-12-01T00:00:00.000Z"))
+			.andExpect(status().isBadRequest());
+
+		this.mockMvc.perform(get("/api-travels/travels")
+				.param("from", "2019-12-10T00:00:00.000Z").param("to", "2019-12-01T00:00:00.000Z"))
+			.andExpect(status().isBadRequest());
+    }
+	
+	@Test
+	@Order(11)
+    public void shouldReturnExportAllTravels() throws Exception {
+		
+		MvcResult result = this.mockMvc.perform(get("/api-travels/travels/export").accept("application/x-ndjson"))
+			.andExpect(request().asyncStarted()).andReturn();
+		
+		String ndjson = this.mockMvc.perform(asyncDispatch(result))
+			.andExpect(status().isOk())
+			.andExpect(content().contentType("application/x-ndjson"))
+			.andReturn().getResponse().getContentAsString();
+		
+		String[] lines = ndjson.split("\n");
+		assertEquals(1002, lines.length);
+		assertTrue(lines[0].startsWith("{\"id\":1,"));
+		
+		result = this.mockMvc.perform(get("/api-travels/travels/export"))
+			.andExpect(request().asyncStarted()).andReturn();
+		
+		this.mockMvc.perform(asyncDispatch(result))
+			.andExpect(status().isOk())
+			.andExpect(content().contentType(MediaType.APPLICATION_JSON))
+			.andExpect(jsonPath("$.length()").value(1002))
+			.andExpect(jsonPath("$[1].id").value(4));
+    }
+	
+	@Test
+	@Order(12)
+    public void shouldReturnStatisticsOfTheLastMinute() throws Exception {
+		
+		this.mockMvc.perform(get("/api-travels/statistics").param("window", "60s"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.count").value(1002));
+		
+		this.mockMvc.perform(get("/api-travels/statistics").param("window", "25h"))
+			.andExpect(status().isBadRequest());
+    }
+	
+	@Test
+	@Order(13)
+    public void shouldReturnStatisticsByType() throws Exception {
+		
+		this.mockMvc.perform(get("/api-travels/statistics"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.byType").doesNotExist());
+		
+		this.mockMvc.perform(get("/api-travels/statistics").param("groupBy", "type"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.count").value(1002))
+			.andExpect(jsonPath("$.byType.RETURN.count").value(1002))
+			.andExpect(jsonPath("$.byType.ONE_WAY.count").value(0));
+		
+		this.mockMvc.perform(get("/api-travels/statistics").param("groupBy", "amount"))
+			.andExpect(status().isBadRequest());
+    }
+	
+	@Test
+	@Order(14)
+    public void shouldReturnFilteredStatistics() throws Exception {
+		
+		this.mockMvc.perform(get("/api-travels/statistics").param("type", "RETURN")
+				.param("startFrom", "2019-11-21T00:00:00.000Z").param("startTo", "2019-11-22T00:00:00.000Z"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.count").value(1002))
+			.andExpect(jsonPath("$.avg").value(22.88));
+		
+		this.mockMvc.perform(get("/api-travels/statistics").param("type", "ONE-WAY"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.count").value(0));
+		
+		this.mockMvc.perform(get("/api-travels/statistics").param("type", "RETURN").param("window", "60s"))
+			.andExpect(status().isBadRequest());
+    }
+	
+	@Test
+	@Order(15)
     public void shouldReturnRemoveAllTravels() throws Exception {
 		this.mockMvc.perform(delete("/api-travels/travels")).andExpect(status().isNoContent());
     }
 	
+	@Test
+	@Order(16)
+    public void shouldReturnRejectTravelsWithFieldsOfWrongType() throws Exception {
+		
+		this.mockMvc.perform(post("/api-travels/travels").contentType(MediaType.APPLICATION_JSON_VALUE)
+				.content("{\"id\": \"abc\", \"amount\": \"22.88\"}")).andExpect(status().isUnprocessableEntity());
+		this.mockMvc.perform(post("/api-travels/travels").contentType(MediaType.APPLICATION_JSON_VALUE)
+				.content("{\"id\": 1, ")).andExpect(status().isBadRequest());
+		
+		String ndjson = "{\"id\": {\"nested\": [1, 2]}, \"amount\": \"1.00\"}\n" 
+				+ new ObjectMapper().writeValueAsString(setObjectToCreate()) + "\n";
+		this.mockMvc.perform(post("/api-travels/travels/stream").contentType("application/x-ndjson").content(ndjson))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.accepted").value(1))
+			.andExpect(jsonPath("$.errors[0].status").value(422));
+		
+		this.mockMvc.perform(delete("/api-travels/travels")).andExpect(status().isNoContent());
+    }
+	
+	@Test
+	@Order(17)
+    public void shouldReturnMetricsInPrometheusFormat() throws Exception {
+		this.mockMvc.perform(get("/actuator/prometheus"))
+			.andExpect(status().isOk())
+			.andExpect(content().string(containsString("travels_created_total{status=\"201\",}")))
+			.andExpect(content().string(containsString("travels_parse_failures_total{field=\"id\",}")))
+			.andExpect(content().string(containsString("travels_statistics_create_seconds{quantile=\"0.99\",}")))
+			.andExpect(content().string(containsString("travels_store_size")))
+			.andExpect(content().string(containsString("http_server_requests_seconds_bucket{")));
+    }
+	
+	@Test
+	@Order(18)
+	@SuppressWarnings("unchecked")
+    public void shouldReturnNotModifiedUntilTravelsChange() throws Exception {
+		
+		this.mockMvc.perform(post("/api-travels/travels").contentType(MediaType.APPLICATION_JSON_VALUE)
+				.content(new ObjectMapper().writeValueAsString(setObjectToCreate()))).andExpect(status().isCreated());
+		
+		String etag = this.mockMvc.perform(get("/api-travels/statistics"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.count").value(1))
+			.andReturn().getResponse().getHeader("ETag");
+		assertNotNull(etag);
+		
+		this.mockMvc.perform(get("/api-travels/statistics").header("If-None-Match", etag))
+			.andExpect(status().isNotModified())
+			.andExpect(header().string("ETag", etag))
+			.andExpect(content().string(""));
+		this.mockMvc.perform(get("/api-travels/statistics"))
+			.andExpect(status().isOk())
+			.andExpect(header().string("ETag", etag))
+			.andExpect(jsonPath("$.count").value(1));
+		
+		String listEtag = this.mockMvc.perform(get("/api-travels/travels").param("limit", "1"))
+			.andExpect(status().isOk())
+			.andExpect(header().exists("Link"))
+			.andReturn().getResponse().getHeader("ETag");
+		this.mockMvc.perform(get("/api-travels/travels").param("limit", "1"))
+			.andExpect(status().isOk())
+			.andExpect(header().exists("Link"))
+			.andExpect(jsonPath("$[0].id").value(1));
+		
+		JSONObject travel = setObjectToCreate();
+		travel.put("id", 2);
+		this.mockMvc.perform(post("/api-travels/travels").contentType(MediaType.APPLICATION_JSON_VALUE)
+				.content(new ObjectMapper().writeValueAsString(travel))).andExpect(status().isCreated());
+		
+		this.mockMvc.perform(get("/api-travels/statistics").header("If-None-Match", etag))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.count").value(2));
+		this.mockMvc.perform(get("/api-travels/travels").param("limit", "1").header("If-None-Match", listEtag))
+			.andExpect(status().isOk());
+		this.mockMvc.perform(get("/api-travels/statistics").param("window", "60s"))
+			.andExpect(status().isOk())
+			.andExpect(header().doesNotExist("ETag"));
+		
+		this.mockMvc.perform(delete("/api-travels/travels")).andExpect(status().isNoContent());
+    }
+	
+	@Test
+	@Order(19)
+    public void shouldReturnTravelsInCbor() throws Exception {
+		
+		CBORMapper cbor = new CBORMapper();
+		long startDate = Instant.parse("2019-11-21T09:59:51.312Z").toEpochMilli();
+		long endDate = Instant.parse("2019-12-01T21:08:45.202Z").toEpochMilli();
+		
+		Map<String, Object> travel = Map.of("id", 1, "orderNumber", "220788", "amount", new BigDecimal("22.88"), 
+				"type", TravelTypeEnum.RETURN.getValue(), "startDate", startDate, "endDate", endDate);
+		this.mockMvc.perform(post("/api-travels/travels").contentType(MediaType.APPLICATION_CBOR)
+				.content(cbor.writeValueAsBytes(travel))).andExpect(status().isCreated());
+		
+		Map<String, Object> travelWithInvalidDates = new HashMap<>(travel);
+		travelWithInvalidDates.put("id", 2);
+		travelWithInvalidDates.put("endDate", startDate - 1);
+		byte[] batch = this.mockMvc.perform(post("/api-travels/travels/batch").contentType(MediaType.APPLICATION_CBOR)
+				.accept(MediaType.APPLICATION_CBOR).content(cbor.writeValueAsBytes(List.of(travelWithInvalidDates))))
+			.andExpect(status().isOk())
+			.andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+			.andReturn().getResponse().getContentAsByteArray();
+		assertEquals(422, cbor.readTree(batch).get(0).get("status").asInt());
+		
+		byte[] found = this.mockMvc.perform(get("/api-travels/travels/220788").accept(MediaType.APPLICATION_CBOR))
+			.andExpect(status().isOk())
+			.andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+			.andReturn().getResponse().getContentAsByteArray();
+		
+		JsonNode node = cbor.readTree(found).get(0);
+		assertEquals(startDate, node.get("startDate").asLong());
+		assertEquals(endDate, node.get("endDate").asLong());
+		assertEquals(new BigDecimal("22.88"), node.get("amount").decimalValue());
+		
+		String json = this.mockMvc.perform(get("/api-travels/travels/220788"))
+			.andExpect(status().isOk())
+			.andExpect(content().contentType(MediaType.APPLICATION_JSON))
+			.andReturn().getResponse().getContentAsString();
+		assertTrue(found.length < json.getBytes(StandardCharsets.UTF_8).length);
+		
+		MvcResult result = this.mockMvc.perform(get("/api-travels/travels/export").accept(MediaType.APPLICATION_CBOR))
+			.andExpect(request().asyncStarted()).andReturn();
+		byte[] export = this.mockMvc.perform(asyncDispatch(result))
+			.andExpect(status().isOk())
+			.andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+			.andReturn().getResponse().getContentAsByteArray();
+		assertEquals(1, cbor.readTree(export).size());
+		
+		byte[] statistics = this.mockMvc.perform(get("/api-travels/statistics").accept(MediaType.APPLICATION_CBOR))
+			.andExpect(status().isOk())
+			.andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+			.andReturn().getResponse().getContentAsByteArray();
+		assertEquals(1, cbor.readTree(statistics).get("count").asLong());
+		
+		this.mockMvc.perform(delete("/api-travels/travels")).andExpect(status().isNoContent());
+    }
+	
+	@Test
+	@Order(20)
+	@SuppressWarnings("unchecked")
+    public void shouldReturnCompressedTravels() throws Exception {
+		
+		List<JSONObject> travels = new ArrayList<>();
+		for(int id = 1; id <= 100; id++) {
+			JSONObject travel = setObjectToCreate();
+			travel.put("id", id);
+			travels.add(travel);
+		}
+		this.mockMvc.perform(post("/api-travels/travels/batch").contentType(MediaType.APPLICATION_JSON_VALUE)
+				.content(new ObjectMapper().writeValueAsString(travels))).andExpect(status().isOk());
+		
+		MockHttpServletResponse gzip = this.mockMvc.perform(get("/api-travels/travels")
+				.header("Accept-Encoding", "gzip, deflate"))
+			.andExpect(status().isOk())
+			.andExpect(header().string("Content-Encoding", "gzip"))
+			.andExpect(header().doesNotExist("Content-Length"))
+			.andReturn().getResponse();
+		assertTrue(gzip.getHeaders("Vary").contains("Accept-Encoding"));
+		assertTrue(gzip.getHeader("ETag").startsWith("W/"));
+		
+		String json = new String(new GZIPInputStream(new ByteArrayInputStream(gzip.getContentAsByteArray()))
+				.readAllBytes(), StandardCharsets.UTF_8);
+		assertEquals(100, new ObjectMapper().readTree(json).size());
+		assertTrue(gzip.getContentAsByteArray().length < json.length());
+		
+		this.mockMvc.perform(get("/api-travels/travels").header("Accept-Encoding", "gzip")
+				.header("If-None-Match", gzip.getHeader("ETag")))
+			.andExpect(status().isNotModified());
+		
+		byte[] zstd = this.mockMvc.perform(get("/api-travels/travels").header("Accept-Encoding", "gzip;q=0.5, zstd"))
+			.andExpect(status().isOk())
+			.andExpect(header().string("Content-Encoding", "zstd"))
+			.andReturn().getResponse().getContentAsByteArray();
+		assertEquals(json, new String(new ZstdInputStream(new ByteArrayInputStream(zstd)).readAllBytes(), 
+				StandardCharsets.UTF_8));
+		
+		this.mockMvc.perform(get("/api-travels/travels").param("limit", "1").header("Accept-Encoding", "gzip"))
+			.andExpect(status().isOk())
+			.andExpect(header().doesNotExist("Content-Encoding"))
+			.andExpect(jsonPath("$[0].id").value(1));
+		this.mockMvc.perform(get("/api-travels/travels").header("Accept-Encoding", "identity, gzip;q=0"))
+			.andExpect(status().isOk())
+			.andExpect(header().doesNotExist("Content-Encoding"));
+		
+		this.mockMvc.perform(delete("/api-travels/travels")).andExpect(status().isNoContent());
+    }
+	
 	@SuppressWarnings("unchecked")
 	private JSONObject setObjectToCreate() {
 		
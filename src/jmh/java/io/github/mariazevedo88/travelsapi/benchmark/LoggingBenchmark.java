@@ -0,0 +1,103 @@
+package io.github.mariazevedo88.travelsapi.benchmark;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import io.github.mariazevedo88.travelsapi.TravelsApiApplication;
+import io.github.mariazevedo88.travelsapi.service.TravelService;
+
+/**
+ * Benchmark of the latency of a request that logs at the level INFO, the statistics, with the
+ * asynchronous loggers of the application and with synchronous loggers, that write the log 
+ * in the request thread. The log is written to a file, flushed on every event, as a console 
+ * redirected to a file or a pipe would be. The response cache is disabled, so every request
+ * computes the statistics and logs them.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+public class LoggingBenchmark {
+	
+	private static final String SYNCHRONOUS = 
+			"-DLog4jContextSelector=org.apache.logging.log4j.core.selector.ClassLoaderContextSelector";
+	
+	private static final int SIZE = 1000;
+	
+	private Path directory;
+	private ConfigurableApplicationContext context;
+	private MockMvc mockMvc;
+	
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		
+		directory = Files.createTempDirectory("logging-benchmark");
+		Path configuration = directory.resolve("log4j2.xml");
+		Files.writeString(configuration, "<Configuration status=\"WARN\"><Appenders>"
+				+ "<File name=\"file\" fileName=\"" + directory.resolve("travels.log") + "\">"
+				+ "<PatternLayout pattern=\"%d{DEFAULT} %p %c{2}: %m%n\"/></File></Appenders>"
+				+ "<Loggers><Root level=\"info\"><AppenderRef ref=\"file\"/></Root></Loggers></Configuration>");
+		
+		context = new SpringApplicationBuilder(TravelsApiApplication.class)
+				.properties("server.port=0", "spring.main.banner-mode=off", "travels.response-cache.enabled=false", 
+						"travels.compression.enabled=false", "logging.config=" + configuration.toUri())
+				.run();
+		mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+		
+		TravelBenchmarkData.load(context.getBean(TravelService.class), SIZE);
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		
+		context.close();
+		try(var files = Files.list(directory)) {
+			for(Path file : (Iterable<Path>) files::iterator) {
+				Files.delete(file);
+			}
+		}
+		Files.delete(directory);
+	}
+	
+	@Benchmark
+	@Fork(1)
+	public MvcResult asynchronous() throws Exception {
+		return mockMvc.perform(get("/api-travels/statistics")).andReturn();
+	}
+	
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = SYNCHRONOUS)
+	public MvcResult synchronous() throws Exception {
+		return mockMvc.perform(get("/api-travels/statistics")).andReturn();
+	}
+
+}
@@ -0,0 +1,65 @@
+package io.github.mariazevedo88.travelsapi.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.mariazevedo88.travelsapi.enumeration.TravelTypeEnum;
+import io.github.mariazevedo88.travelsapi.model.Statistic;
+import io.github.mariazevedo88.travelsapi.model.Travel;
+import io.github.mariazevedo88.travelsapi.service.StatisticService;
+import io.github.mariazevedo88.travelsapi.service.TravelService;
+
+/**
+ * Benchmark of the <code>StatisticService</code> over lists of <code>size</code> travels: the 
+ * statistics of all travels and of the travels of one type, both computed in a single pass.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xmx16g" })
+public class StatisticServiceBenchmark {
+	
+	@Param({ "1000", "100000", "1000000", "10000000" })
+	public int size;
+	
+	private final StatisticService statisticService = new StatisticService();
+	
+	private List<Travel> travels;
+	
+	@Setup(Level.Trial)
+	public void setUp() {
+		
+		TravelService service = new TravelService();
+		TravelBenchmarkData.load(service, size);
+		travels = service.find();
+	}
+	
+	@Benchmark
+	public Statistic create() {
+		return statisticService.create(travels);
+	}
+	
+	@Benchmark
+	public Statistic createFiltered() {
+		return statisticService.create(travels, travel -> travel.getType() == TravelTypeEnum.RETURN);
+	}
+
+}
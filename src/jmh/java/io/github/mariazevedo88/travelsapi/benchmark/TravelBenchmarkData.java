@@ -0,0 +1,66 @@
+package io.github.mariazevedo88.travelsapi.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.github.mariazevedo88.travelsapi.dto.TravelDTO;
+import io.github.mariazevedo88.travelsapi.enumeration.TravelTypeEnum;
+import io.github.mariazevedo88.travelsapi.service.TravelService;
+
+/**
+ * Class that generates the travels used by the benchmarks. The travels are deterministic, so 
+ * every fork and every size works on the same data: ids from 1 to the size, each one with its 
+ * own order number, and the three types in turn.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+final class TravelBenchmarkData {
+	
+	private static final int LOAD_CHUNK = 100_000;
+	
+	private static final TravelTypeEnum[] TYPES = TravelTypeEnum.values();
+	
+	private TravelBenchmarkData() {}
+	
+	/**
+	 * Method that creates the request body of the travel with the id.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param id
+	 * @return TravelDTO
+	 */
+	static TravelDTO travel(long id) {
+		
+		TravelTypeEnum type = TYPES[(int) (id % TYPES.length)];
+		String endDate = type == TravelTypeEnum.ONE_WAY ? null : "2019-12-01T21:08:45.202Z";
+		
+		return new TravelDTO(id, String.valueOf(id), (id % 10_000) + "." + (id % 100), 
+				"2019-11-21T09:59:51.312Z", endDate, type.getValue());
+	}
+	
+	/**
+	 * Method that adds the travels with ids from 1 to the size, in batches, so the request 
+	 * bodies of the whole data set are never held in memory at once.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param service
+	 * @param size
+	 */
+	static void load(TravelService service, int size) {
+		
+		for(int first = 1; first <= size; first += LOAD_CHUNK) {
+			int last = Math.min(size, first + LOAD_CHUNK - 1);
+			List<TravelDTO> travels = new ArrayList<>(last - first + 1);
+			for(long id = first; id <= last; id++) {
+				travels.add(travel(id));
+			}
+			service.addAll(travels);
+		}
+	}
+
+}
@@ -0,0 +1,110 @@
+package io.github.mariazevedo88.travelsapi.benchmark;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.mariazevedo88.travelsapi.TravelsApiApplication;
+import io.github.mariazevedo88.travelsapi.service.TravelService;
+
+/**
+ * Benchmark of full round trips through the controllers, with <code>MockMvc</code>: the request
+ * goes through the filters, the message converters and the services of the application, with 
+ * <code>size</code> travels stored, without the network.
+ * 
+ * The travel created has an id that is already stored, so the number of travels doesn't grow
+ * during the measurement. The response cache and the compression are disabled, so the reads
+ * measure the statistics and the serialization, not a copy of the cached bytes.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xmx16g" })
+public class TravelControllerBenchmark {
+	
+	@Param({ "1000", "100000", "1000000", "10000000" })
+	public int size;
+	
+	private ConfigurableApplicationContext context;
+	private MockMvc mockMvc;
+	
+	private byte[] travel;
+	
+	private long nextId;
+	
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		
+		context = new SpringApplicationBuilder(TravelsApiApplication.class)
+				.properties("server.port=0", "spring.main.banner-mode=off", "travels.response-cache.enabled=false", 
+						"travels.compression.enabled=false").run();
+		mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+		
+		TravelBenchmarkData.load(context.getBean(TravelService.class), size);
+		travel = new ObjectMapper().writeValueAsBytes(TravelBenchmarkData.travel(size / 2));
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+	
+	@Benchmark
+	public MvcResult create() throws Exception {
+		return mockMvc.perform(post("/api-travels/travels").contentType(MediaType.APPLICATION_JSON)
+				.content(travel)).andReturn();
+	}
+	
+	@Benchmark
+	public MvcResult findByOrderNumber() throws Exception {
+		nextId = nextId % size + 1;
+		return mockMvc.perform(get("/api-travels/travels/" + nextId)).andReturn();
+	}
+	
+	@Benchmark
+	public MvcResult findPage() throws Exception {
+		nextId = nextId % size + 1;
+		return mockMvc.perform(get("/api-travels/travels").param("after", String.valueOf(nextId))
+				.param("limit", "100")).andReturn();
+	}
+	
+	@Benchmark
+	public MvcResult statistics() throws Exception {
+		return mockMvc.perform(get("/api-travels/statistics")).andReturn();
+	}
+	
+	@Benchmark
+	public MvcResult filteredStatistics() throws Exception {
+		return mockMvc.perform(get("/api-travels/statistics").param("type", "RETURN")).andReturn();
+	}
+
+}
@@ -0,0 +1,45 @@
+package io.github.mariazevedo88.travelsapi.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.mariazevedo88.travelsapi.factory.TravelFactory;
+import io.github.mariazevedo88.travelsapi.factory.impl.TravelFactoryImpl;
+import io.github.mariazevedo88.travelsapi.model.Travel;
+
+/**
+ * Benchmark of the <code>TravelFactoryImpl</code>, for each type of travel. The factory 
+ * doesn't depend on the number of travels stored, so it is not parameterized by size.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TravelFactoryBenchmark {
+	
+	@Param({ "RETURN", "ONE-WAY", "MULTI-CITY" })
+	public String type;
+	
+	private final TravelFactory factory = new TravelFactoryImpl();
+	
+	@Benchmark
+	public Travel createTravel() {
+		return factory.createTravel(type);
+	}
+
+}
@@ -0,0 +1,64 @@
+package io.github.mariazevedo88.travelsapi.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.mariazevedo88.travelsapi.parser.TravelFieldParser;
+
+/**
+ * Benchmark of the parsing of the amount and the dates of a travel: the fast path of the 
+ * <code>TravelFieldParser</code> against the general parsers it replaced.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TravelFieldParserBenchmark {
+	
+	private String date = "2019-11-21T09:59:51.312Z";
+	
+	@Param({ "22.88", "1234567.5" })
+	public String amount;
+	
+	@Benchmark
+	public LocalDateTime parseDateGeneral() {
+		DateTimeFormatter formatter = DateTimeFormatter.ISO_INSTANT;
+		return ZonedDateTime.parse(date, formatter.withZone(ZoneId.of("UTC"))).toLocalDateTime();
+	}
+	
+	@Benchmark
+	public LocalDateTime parseDateFast() {
+		return TravelFieldParser.parseDate(date);
+	}
+	
+	@Benchmark
+	public BigDecimal parseAmountGeneral() {
+		return new BigDecimal(amount);
+	}
+	
+	@Benchmark
+	public BigDecimal parseAmountFast() {
+		return TravelFieldParser.parseAmount(amount);
+	}
+
+}
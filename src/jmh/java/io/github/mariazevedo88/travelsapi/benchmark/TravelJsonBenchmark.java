@@ -0,0 +1,84 @@
+package io.github.mariazevedo88.travelsapi.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import io.github.mariazevedo88.travelsapi.cache.TravelJsonCache;
+import io.github.mariazevedo88.travelsapi.config.JacksonConfiguration;
+import io.github.mariazevedo88.travelsapi.model.Travel;
+import io.github.mariazevedo88.travelsapi.service.TravelService;
+
+/**
+ * Benchmark of the serialization of a page of travels, as in the list end-point, by the 
+ * bean serializer (<code>cached=false</code>) and with the JSON of each travel copied from the 
+ * <code>TravelJsonCache</code> (<code>cached=true</code>). The time and the allocation are
+ * reported per travel listed.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TravelJsonBenchmark {
+	
+	private static final int PAGE_SIZE = 1000;
+	
+	@Param({ "false", "true" })
+	public boolean cached;
+	
+	private List<Travel> page;
+	private ObjectWriter writer;
+	private final ByteArrayOutputStream out = new ByteArrayOutputStream(256 * PAGE_SIZE);
+	
+	@Setup
+	public void setUp() throws IOException {
+		
+		var configuration = new JacksonConfiguration();
+		TravelJsonCache cache = configuration.travelJsonCache(cached);
+		ObjectMapper mapper = Jackson2ObjectMapperBuilder.json()
+				.modulesToInstall(configuration.afterburnerModule(), configuration.travelJsonCacheModule(cache)).build();
+		writer = mapper.writer();
+		
+		var service = new TravelService();
+		service.createFactory();
+		page = new ArrayList<>(PAGE_SIZE);
+		for(long id = 1; id <= PAGE_SIZE; id++) {
+			Travel travel = service.create(TravelBenchmarkData.travel(id));
+			cache.put(travel, mapper.writeValueAsBytes(travel));
+			page.add(travel);
+		}
+	}
+	
+	@Benchmark
+	@OperationsPerInvocation(PAGE_SIZE)
+	public int writePage() throws IOException {
+		out.reset();
+		writer.writeValue(out, page);
+		return out.size();
+	}
+
+}
@@ -0,0 +1,88 @@
+package io.github.mariazevedo88.travelsapi.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import io.github.mariazevedo88.travelsapi.dto.TravelDTO;
+import io.github.mariazevedo88.travelsapi.model.Travel;
+import io.github.mariazevedo88.travelsapi.service.TravelService;
+
+/**
+ * Benchmark of the <code>TravelService</code>: the conversion of a request body to a 
+ * <code>Travel</code>, from the bound DTO and from the JSON bytes, and the search by id, 
+ * with the repository holding <code>size</code> travels.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xmx16g" })
+public class TravelServiceBenchmark {
+	
+	@Param({ "1000", "100000", "1000000", "10000000" })
+	public int size;
+	
+	private TravelService service;
+	private ObjectReader reader;
+	
+	private TravelDTO travel;
+	private byte[] json;
+	
+	private long nextId;
+	
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		
+		service = new TravelService();
+		TravelBenchmarkData.load(service, size);
+		
+		ObjectMapper objectMapper = new ObjectMapper();
+		reader = objectMapper.readerFor(TravelDTO.class);
+		
+		travel = TravelBenchmarkData.travel(size / 2);
+		json = objectMapper.writeValueAsBytes(travel);
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		service.clearObjects();
+	}
+	
+	@Benchmark
+	public Travel createFromDto() {
+		return service.create(travel);
+	}
+	
+	@Benchmark
+	public Travel createFromJson() throws IOException {
+		return service.create(reader.<TravelDTO>readValue(json));
+	}
+	
+	@Benchmark
+	public Travel findById() {
+		nextId = nextId % size + 1;
+		return service.findById(nextId);
+	}
+
+}
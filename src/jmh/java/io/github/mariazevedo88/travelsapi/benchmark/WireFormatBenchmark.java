@@ -0,0 +1,94 @@
+package io.github.mariazevedo88.travelsapi.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import io.github.mariazevedo88.travelsapi.config.JacksonConfiguration;
+import io.github.mariazevedo88.travelsapi.model.Travel;
+import io.github.mariazevedo88.travelsapi.service.TravelService;
+
+/**
+ * Benchmark of the wire formats of the list end-point: a page of travels encoded and decoded 
+ * in JSON and in CBOR, with the mappers of the message converters. The time is reported per 
+ * travel, and the size of the page per travel is printed in the setup.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireFormatBenchmark {
+	
+	private static final int PAGE_SIZE = 1000;
+	
+	@Param({ "json", "cbor" })
+	public String format;
+	
+	private List<Travel> page;
+	private byte[] encoded;
+	private ObjectWriter writer;
+	private ObjectReader reader;
+	private final ByteArrayOutputStream out = new ByteArrayOutputStream(256 * PAGE_SIZE);
+	
+	@Setup
+	public void setUp() throws IOException {
+		
+		var configuration = new JacksonConfiguration();
+		ObjectMapper mapper = "cbor".equals(format) 
+				? configuration.cborHttpMessageConverter().getObjectMapper()
+				: Jackson2ObjectMapperBuilder.json().modulesToInstall(configuration.afterburnerModule()).build();
+		writer = mapper.writerFor(new TypeReference<List<Travel>>() {});
+		reader = mapper.readerFor(new TypeReference<List<Travel>>() {});
+		
+		var service = new TravelService();
+		service.createFactory();
+		page = new ArrayList<>(PAGE_SIZE);
+		for(long id = 1; id <= PAGE_SIZE; id++) {
+			page.add(service.create(TravelBenchmarkData.travel(id)));
+		}
+		
+		encoded = writer.writeValueAsBytes(page);
+		System.out.printf("%n%s: %d bytes per travel%n", format, encoded.length / PAGE_SIZE);
+	}
+	
+	@Benchmark
+	@OperationsPerInvocation(PAGE_SIZE)
+	public int encodePage() throws IOException {
+		out.reset();
+		writer.writeValue(out, page);
+		return out.size();
+	}
+	
+	@Benchmark
+	@OperationsPerInvocation(PAGE_SIZE)
+	public List<Travel> decodePage() throws IOException {
+		return reader.readValue(encoded);
+	}
+
+}
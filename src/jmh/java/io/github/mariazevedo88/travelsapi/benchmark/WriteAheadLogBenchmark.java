@@ -0,0 +1,87 @@
+package io.github.mariazevedo88.travelsapi.benchmark;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.mariazevedo88.travelsapi.enumeration.DurabilityModeEnum;
+import io.github.mariazevedo88.travelsapi.enumeration.TravelTypeEnum;
+import io.github.mariazevedo88.travelsapi.model.Travel;
+import io.github.mariazevedo88.travelsapi.repository.TravelRepository;
+import io.github.mariazevedo88.travelsapi.repository.impl.InMemoryTravelRepository;
+import io.github.mariazevedo88.travelsapi.repository.impl.WalTravelRepository;
+
+/**
+ * Benchmark of the travels saved per second by concurrent writers, without the write-ahead 
+ * log (<code>none</code>) and with the log in each durability mode.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+@Threads(16)
+public class WriteAheadLogBenchmark {
+	
+	private static final long DISTINCT_IDS = 1_000_000;
+	
+	@Param({ "none", "per-request", "interval", "os-buffered" })
+	public String durability;
+	
+	private final AtomicLong ids = new AtomicLong();
+	private final LocalDateTime startDate = LocalDateTime.now();
+	
+	private Path directory;
+	private TravelRepository repository;
+	
+	@Setup
+	public void setUp() throws IOException {
+		
+		directory = Files.createTempDirectory("wal-benchmark");
+		repository = "none".equals(durability) ? new InMemoryTravelRepository() 
+				: new WalTravelRepository(new InMemoryTravelRepository(), directory, 
+						DurabilityModeEnum.getEnum(durability), 10, DISTINCT_IDS);
+	}
+	
+	@Benchmark
+	public Travel save() {
+		long id = ids.incrementAndGet() % DISTINCT_IDS;
+		return repository.save(new Travel(id, "ORDER-" + (id % 1000), BigDecimal.valueOf(id, 2), startDate, null, 
+				TravelTypeEnum.ONE_WAY));
+	}
+	
+	@TearDown
+	public void tearDown() throws IOException {
+		
+		repository.close();
+		
+		try(Stream<Path> files = Files.walk(directory)) {
+			files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+		}
+	}
+
+}
@@ -0,0 +1,274 @@
+package io.github.mariazevedo88.travelsapi.aggregator;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.TreeMap;
+
+/**
+ * Sorted multiset of amounts, used to find the next min or max of an aggregate when the
+ * current one is removed. The amounts are kept as <code>long</code> minor units (scale of 2)
+ * in a treap of distinct amounts, with the occurrences of each one, whose nodes are parallel
+ * arrays reused after removals. So the multiset costs about 32 bytes per distinct amount,
+ * not per amount added, and doesn't create an object per amount. Only the amounts that don't
+ * fit in minor units are kept in a <code>TreeMap</code>.
+ * 
+ * Inserts, removals and the min and max are O(log n) expected, where n is the number of
+ * distinct amounts.
+ * 
+ * This class is not thread-safe.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public class AmountMultiset {
+	
+	private static final int SCALE = 2;
+	private static final int DEFAULT_CAPACITY = 16;
+	private static final int NIL = -1;
+	
+	private long[] keys;
+	private long[] occurrences;
+	private int[] lefts;
+	private int[] rights;
+	private int[] priorities;
+	
+	private int root = NIL;
+	private int allocated;
+	private int free = NIL;
+	private int seed = 0x2545F491;
+	
+	private final TreeMap<BigDecimal, Long> largeAmounts = new TreeMap<>();
+	
+	public AmountMultiset() {
+		allocate(DEFAULT_CAPACITY);
+	}
+	
+	/**
+	 * Method that adds an occurrence of the amount.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param amount
+	 */
+	public void add(BigDecimal amount) {
+		
+		long units = AmountSum.toMinorUnits(amount);
+		if(units == Long.MIN_VALUE) {
+			largeAmounts.merge(amount, 1L, Long::sum);
+			return;
+		}
+		addMinorUnits(units);
+	}
+	
+	void addMinorUnits(long units) {
+		int node = find(units);
+		if(node != NIL) {
+			occurrences[node]++;
+		}else {
+			root = insert(root, newNode(units));
+		}
+	}
+	
+	/**
+	 * Method that removes an occurrence of the amount.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param amount
+	 * @return true if the amount was in the multiset
+	 */
+	public boolean remove(BigDecimal amount) {
+		
+		long units = AmountSum.toMinorUnits(amount);
+		if(units == Long.MIN_VALUE) {
+			Long count = largeAmounts.get(amount);
+			if(count == null) return false;
+			if(count > 1) {
+				largeAmounts.put(amount, count - 1);
+			}else {
+				largeAmounts.remove(amount);
+			}
+			return true;
+		}
+		
+		int node = find(units);
+		if(node == NIL) return false;
+		
+		if(occurrences[node] > 1) {
+			occurrences[node]--;
+		}else {
+			root = remove(root, units);
+		}
+		return true;
+	}
+	
+	/**
+	 * @return the smallest amount, or null if the multiset is empty
+	 */
+	public BigDecimal min() {
+		
+		BigDecimal min = null;
+		if(root != NIL) {
+			int node = root;
+			while(lefts[node] != NIL) node = lefts[node];
+			min = BigDecimal.valueOf(keys[node], SCALE);
+		}
+		if(!largeAmounts.isEmpty() && (min == null || largeAmounts.firstKey().compareTo(min) < 0)) {
+			min = largeAmounts.firstKey();
+		}
+		return min;
+	}
+	
+	/**
+	 * @return the greatest amount, or null if the multiset is empty
+	 */
+	public BigDecimal max() {
+		
+		BigDecimal max = null;
+		if(root != NIL) {
+			int node = root;
+			while(rights[node] != NIL) node = rights[node];
+			max = BigDecimal.valueOf(keys[node], SCALE);
+		}
+		if(!largeAmounts.isEmpty() && (max == null || largeAmounts.lastKey().compareTo(max) > 0)) {
+			max = largeAmounts.lastKey();
+		}
+		return max;
+	}
+	
+	public boolean isEmpty() {
+		return root == NIL && largeAmounts.isEmpty();
+	}
+	
+	public void clear() {
+		if(keys.length > DEFAULT_CAPACITY) allocate(DEFAULT_CAPACITY);
+		root = NIL;
+		allocated = 0;
+		free = NIL;
+		largeAmounts.clear();
+	}
+	
+	private int find(long key) {
+		int node = root;
+		while(node != NIL && keys[node] != key) {
+			node = key < keys[node] ? lefts[node] : rights[node];
+		}
+		return node;
+	}
+	
+	private int insert(int node, int inserted) {
+		
+		if(node == NIL) return inserted;
+		
+		if(keys[inserted] < keys[node]) {
+			lefts[node] = insert(lefts[node], inserted);
+			if(priorities[lefts[node]] > priorities[node]) return rotateRight(node);
+		}else {
+			rights[node] = insert(rights[node], inserted);
+			if(priorities[rights[node]] > priorities[node]) return rotateLeft(node);
+		}
+		return node;
+	}
+	
+	private int remove(int node, long key) {
+		
+		if(node == NIL) return NIL;
+		
+		if(key < keys[node]) {
+			lefts[node] = remove(lefts[node], key);
+		}else if(key > keys[node]) {
+			rights[node] = remove(rights[node], key);
+		}else {
+			int merged = merge(lefts[node], rights[node]);
+			release(node);
+			return merged;
+		}
+		return node;
+	}
+	
+	/*
+	 * Joins two subtrees where every amount of the first one is smaller than the second one.
+	 */
+	private int merge(int first, int second) {
+		
+		if(first == NIL) return second;
+		if(second == NIL) return first;
+		
+		if(priorities[first] > priorities[second]) {
+			rights[first] = merge(rights[first], second);
+			return first;
+		}
+		
+		lefts[second] = merge(first, lefts[second]);
+		return second;
+	}
+	
+	private int rotateRight(int node) {
+		int left = lefts[node];
+		lefts[node] = rights[left];
+		rights[left] = node;
+		return left;
+	}
+	
+	private int rotateLeft(int node) {
+		int right = rights[node];
+		rights[node] = lefts[right];
+		lefts[right] = node;
+		return right;
+	}
+	
+	private int newNode(long key) {
+		
+		int node;
+		if(free != NIL) {
+			node = free;
+			free = lefts[node];
+		}else {
+			if(allocated == keys.length) grow();
+			node = allocated++;
+		}
+		
+		keys[node] = key;
+		occurrences[node] = 1;
+		lefts[node] = NIL;
+		rights[node] = NIL;
+		priorities[node] = nextPriority();
+		
+		return node;
+	}
+	
+	/*
+	 * The released nodes are chained through the left links.
+	 */
+	private void release(int node) {
+		lefts[node] = free;
+		free = node;
+	}
+	
+	private int nextPriority() {
+		seed ^= seed << 13;
+		seed ^= seed >>> 17;
+		seed ^= seed << 5;
+		return seed;
+	}
+	
+	private void allocate(int capacity) {
+		keys = new long[capacity];
+		occurrences = new long[capacity];
+		lefts = new int[capacity];
+		rights = new int[capacity];
+		priorities = new int[capacity];
+	}
+	
+	private void grow() {
+		int capacity = keys.length << 1;
+		keys = Arrays.copyOf(keys, capacity);
+		occurrences = Arrays.copyOf(occurrences, capacity);
+		lefts = Arrays.copyOf(lefts, capacity);
+		rights = Arrays.copyOf(rights, capacity);
+		priorities = Arrays.copyOf(priorities, capacity);
+	}
+
+}
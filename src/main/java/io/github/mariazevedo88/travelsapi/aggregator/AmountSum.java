@@ -0,0 +1,147 @@
+package io.github.mariazevedo88.travelsapi.aggregator;
+
+import java.math.BigDecimal;
+
+/**
+ * Class that sums amounts exactly, as a <code>long</code> of minor units (scale of 2, the 
+ * scale of the statistics). Only the amounts that don't fit in minor units, because they have 
+ * more than two decimal places or because the <code>long</code> would overflow, are summed 
+ * as <code>BigDecimal</code>, so the common case doesn't create a new <code>BigDecimal</code> 
+ * for each amount added.
+ * 
+ * This class is not thread-safe.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public class AmountSum {
+	
+	private static final int SCALE = 2;
+	private static final int MAX_COMPACT_PRECISION = 18;
+	
+	private long minorUnits;
+	private BigDecimal overflow = BigDecimal.ZERO;
+	
+	/**
+	 * Method that adds an amount to the sum.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param amount
+	 */
+	public void add(BigDecimal amount) {
+		
+		long units = toMinorUnits(amount);
+		if(units == Long.MIN_VALUE) {
+			overflow = overflow.add(amount);
+			return;
+		}
+		addMinorUnits(units);
+	}
+	
+	/**
+	 * Method that subtracts an amount from the sum.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param amount
+	 */
+	public void subtract(BigDecimal amount) {
+		
+		long units = toMinorUnits(amount);
+		if(units == Long.MIN_VALUE) {
+			overflow = overflow.subtract(amount);
+			return;
+		}
+		addMinorUnits(-units);
+	}
+	
+	/**
+	 * Method that adds another sum to this one.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param other
+	 */
+	public void add(AmountSum other) {
+		addMinorUnits(other.minorUnits);
+		if(other.overflow.signum() != 0) {
+			overflow = overflow.add(other.overflow);
+		}
+	}
+	
+	/**
+	 * @return the exact sum
+	 */
+	public BigDecimal toBigDecimal() {
+		BigDecimal sum = BigDecimal.valueOf(minorUnits, SCALE);
+		return overflow.signum() == 0 ? sum : sum.add(overflow);
+	}
+	
+	public void clear() {
+		minorUnits = 0;
+		overflow = BigDecimal.ZERO;
+	}
+	
+	void addMinorUnits(long units) {
+		try {
+			minorUnits = Math.addExact(minorUnits, units);
+		}catch(ArithmeticException e) {
+			overflow = overflow.add(BigDecimal.valueOf(minorUnits, SCALE));
+			minorUnits = units;
+		}
+	}
+	
+	/**
+	 * Method that converts an amount to minor units, without rounding. An amount with the scale
+	 * of 2 and up to 18 digits is read as the <code>long</code> it already holds, moved to the 
+	 * scale of 0, without creating a <code>BigInteger</code> as <code>unscaledValue()</code> does.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param amount
+	 * @return long - the minor units, or <code>Long.MIN_VALUE</code> if the amount can't be 
+	 * represented exactly
+	 */
+	static long toMinorUnits(BigDecimal amount) {
+		
+		if(amount.scale() == SCALE && amount.precision() <= MAX_COMPACT_PRECISION) {
+			return amount.movePointRight(SCALE).longValueExact();
+		}
+		
+		try {
+			return amount.movePointRight(SCALE).longValueExact();
+		}catch(ArithmeticException e) {
+			return Long.MIN_VALUE;
+		}
+	}
+	
+	/**
+	 * Method that converts an amount given by its unscaled value and scale to minor units, 
+	 * when the scale is up to 2.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param unscaledValue
+	 * @param scale
+	 * @return long - the minor units, or <code>Long.MIN_VALUE</code> if the scale is not up to 2
+	 * or the minor units don't fit in a <code>long</code>
+	 */
+	static long toMinorUnits(long unscaledValue, int scale) {
+		
+		if(scale == SCALE) return unscaledValue;
+		if(scale < 0 || scale > SCALE) return Long.MIN_VALUE;
+		
+		try {
+			return Math.multiplyExact(unscaledValue, scale == 0 ? 100 : 10);
+		}catch(ArithmeticException e) {
+			return Long.MIN_VALUE;
+		}
+	}
+
+}
@@ -0,0 +1,350 @@
+package io.github.mariazevedo88.travelsapi.aggregator;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+import io.github.mariazevedo88.travelsapi.model.Statistic;
+import io.github.mariazevedo88.travelsapi.repository.index.LongHashMap;
+
+/**
+ * Class that aggregates the amounts of the travels written in sliding time windows, such as 
+ * the last 60 seconds or the last 24 hours, using ring buffers of time buckets.
+ * 
+ * Each write updates one bucket of each ring in O(1), and a query merges only the buckets
+ * covering the window, so its cost depends on the number of buckets, not on the number of
+ * travels. Windows of up to 5 minutes use buckets of 1 second, and longer windows, up to 
+ * 24 hours, use buckets of 1 minute. The window is rounded up to whole buckets, so the oldest 
+ * bucket may hold writes up to one bucket older than the window.
+ * 
+ * Only the last write of each travel is aggregated: when a travel is written again, the 
+ * amount of its previous write is removed from the bucket of that write, if the bucket is 
+ * still in the ring. So the last write of each travel of the past 24 to 48 hours is kept, 
+ * in two generations of 24 hours, and each bucket keeps the multiset of its amounts to 
+ * find its next min or max. The last writes are kept in primitive arrays (id, time and 
+ * unscaled amount and scale), so a write doesn't allocate an object per travel.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public class SlidingWindowAggregator {
+	
+	public static final Duration MAX_WINDOW = Duration.ofHours(24);
+	
+	private final LongSupplier currentTimeMillis;
+	
+	private final Ring seconds = new Ring(Duration.ofSeconds(1).toMillis(), 300);
+	private final Ring minutes = new Ring(Duration.ofMinutes(1).toMillis(), (int) MAX_WINDOW.toMinutes());
+	
+	private Writes recentWrites = new Writes();
+	private Writes olderWrites = new Writes();
+	private long generationStart = Long.MIN_VALUE;
+	
+	public SlidingWindowAggregator() {
+		this(System::currentTimeMillis);
+	}
+	
+	public SlidingWindowAggregator(LongSupplier currentTimeMillis) {
+		this.currentTimeMillis = currentTimeMillis;
+	}
+	
+	/**
+	 * Method that adds the amount of a travel written now, replacing the amount of its 
+	 * previous write in the window. Null amounts are not aggregated.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param id - id of the travel
+	 * @param amount
+	 */
+	public synchronized void add(long id, BigDecimal amount) {
+		
+		long now = currentTimeMillis.getAsLong();
+		rotate(now);
+		
+		if(!recentWrites.remove(id, seconds, minutes)) olderWrites.remove(id, seconds, minutes);
+		
+		if(amount == null) return;
+		
+		seconds.add(amount, now);
+		minutes.add(amount, now);
+		recentWrites.put(id, now, amount);
+	}
+	
+	/**
+	 * Method that returns the aggregate of the amounts written in the window ending now.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param window - positive and not greater than <code>MAX_WINDOW</code>
+	 * @return Statistic - sum, max, min and count of the window, not rounded and without the average
+	 */
+	public synchronized Statistic toStatistic(Duration window) {
+		
+		if(window.isNegative() || window.isZero() || window.compareTo(MAX_WINDOW) > 0) {
+			throw new IllegalArgumentException("The window must be positive and at most " + MAX_WINDOW + ".");
+		}
+		
+		Ring ring = window.toMillis() <= seconds.span() ? seconds : minutes;
+		return ring.toStatistic(window.toMillis(), currentTimeMillis.getAsLong());
+	}
+	
+	/**
+	 * Method that resets the aggregate.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 */
+	public synchronized void clear() {
+		seconds.clear();
+		minutes.clear();
+		recentWrites = new Writes();
+		olderWrites = new Writes();
+		generationStart = Long.MIN_VALUE;
+	}
+	
+	/*
+	 * A write older than the window is never removed from a bucket, so the writes are 
+	 * dropped a generation after they leave the recent ones.
+	 */
+	private void rotate(long now) {
+		
+		if(generationStart == Long.MIN_VALUE) {
+			generationStart = now;
+		}else if(now - generationStart >= MAX_WINDOW.toMillis()) {
+			olderWrites = now - generationStart < 2 * MAX_WINDOW.toMillis() ? recentWrites : new Writes();
+			recentWrites = new Writes();
+			generationStart = now;
+		}
+	}
+	
+	/**
+	 * Class of the last writes of the travels, in an open addressing hash table by id with
+	 * primitive columns, like the <code>LongHashMap</code>. The rare amounts that don't fit
+	 * in a <code>long</code> with a scale from 0 to 126 are kept in a side map.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 */
+	private static final class Writes {
+		
+		private static final int DEFAULT_CAPACITY = 16;
+		private static final byte FREE = Byte.MIN_VALUE;
+		private static final byte LARGE_AMOUNT = Byte.MAX_VALUE;
+		
+		private long[] ids;
+		private long[] times;
+		private long[] amounts;
+		private byte[] scales;
+		private int mask;
+		private int size;
+		
+		private final LongHashMap<BigDecimal> largeAmounts = new LongHashMap<>();
+		
+		private Writes() {
+			allocate(DEFAULT_CAPACITY);
+		}
+		
+		private void put(long id, long time, BigDecimal amount) {
+			
+			int i = indexFor(id);
+			while(scales[i] != FREE && ids[i] != id) i = (i + 1) & mask;
+			
+			if(scales[i] == FREE) {
+				if(size + 1 > ids.length >> 1) {
+					rehash(ids.length << 1);
+					put(id, time, amount);
+					return;
+				}
+				size++;
+			}
+			
+			ids[i] = id;
+			times[i] = time;
+			if(amount.scale() >= 0 && amount.scale() < LARGE_AMOUNT && amount.unscaledValue().bitLength() < Long.SIZE) {
+				amounts[i] = amount.unscaledValue().longValue();
+				scales[i] = (byte) amount.scale();
+				largeAmounts.remove(id);
+			}else {
+				scales[i] = LARGE_AMOUNT;
+				largeAmounts.put(id, amount);
+			}
+		}
+		
+		/*
+		 * Removes the last write of the travel from the table and its amount from the rings,
+		 * using backward shift deletion so no tombstones are left in the table.
+		 */
+		private boolean remove(long id, Ring seconds, Ring minutes) {
+			
+			int i = indexFor(id);
+			while(scales[i] != FREE && ids[i] != id) i = (i + 1) & mask;
+			
+			if(scales[i] == FREE) return false;
+			
+			BigDecimal amount = scales[i] == LARGE_AMOUNT ? largeAmounts.remove(id) : BigDecimal.valueOf(amounts[i], scales[i]);
+			seconds.remove(amount, times[i]);
+			minutes.remove(amount, times[i]);
+			
+			int gap = i;
+			for(int j = (gap + 1) & mask; scales[j] != FREE; j = (j + 1) & mask) {
+				int home = indexFor(ids[j]);
+				if(((j - home) & mask) >= ((j - gap) & mask)) {
+					ids[gap] = ids[j];
+					times[gap] = times[j];
+					amounts[gap] = amounts[j];
+					scales[gap] = scales[j];
+					gap = j;
+				}
+			}
+			scales[gap] = FREE;
+			size--;
+			
+			return true;
+		}
+		
+		private int indexFor(long id) {
+			long hash = id * 0x9E3779B97F4A7C15L;
+			return (int) (hash ^ (hash >>> 32)) & mask;
+		}
+		
+		private void allocate(int capacity) {
+			ids = new long[capacity];
+			times = new long[capacity];
+			amounts = new long[capacity];
+			scales = new byte[capacity];
+			Arrays.fill(scales, FREE);
+			mask = capacity - 1;
+		}
+		
+		private void rehash(int capacity) {
+			
+			long[] oldIds = ids;
+			long[] oldTimes = times;
+			long[] oldAmounts = amounts;
+			byte[] oldScales = scales;
+			allocate(capacity);
+			
+			for(int i = 0; i < oldScales.length; i++) {
+				if(oldScales[i] == FREE) continue;
+				int j = indexFor(oldIds[i]);
+				while(scales[j] != FREE) j = (j + 1) & mask;
+				ids[j] = oldIds[i];
+				times[j] = oldTimes[i];
+				amounts[j] = oldAmounts[i];
+				scales[j] = oldScales[i];
+			}
+		}
+	}
+	
+	/**
+	 * Class that implements a ring buffer of buckets with the same width. A bucket is reused
+	 * when the time moves a whole ring ahead, and is reset at that moment.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 */
+	private static final class Ring {
+		
+		private final long bucketWidth;
+		private final long[] epochs;
+		private final AmountSum[] sums;
+		private final long[] counts;
+		private final BigDecimal[] mins;
+		private final BigDecimal[] maxs;
+		private final AmountMultiset[] amounts;
+		
+		private Ring(long bucketWidth, int buckets) {
+			this.bucketWidth = bucketWidth;
+			this.epochs = new long[buckets];
+			this.sums = new AmountSum[buckets];
+			this.counts = new long[buckets];
+			this.mins = new BigDecimal[buckets];
+			this.maxs = new BigDecimal[buckets];
+			this.amounts = new AmountMultiset[buckets];
+			
+			for(int slot = 0; slot < buckets; slot++) {
+				sums[slot] = new AmountSum();
+				amounts[slot] = new AmountMultiset();
+			}
+			clear();
+		}
+		
+		private long span() {
+			return bucketWidth * epochs.length;
+		}
+		
+		private void add(BigDecimal amount, long now) {
+			
+			long epoch = Math.floorDiv(now, bucketWidth);
+			int slot = (int) Math.floorMod(epoch, (long) epochs.length);
+			
+			if(epochs[slot] != epoch || counts[slot] == 0) {
+				epochs[slot] = epoch;
+				sums[slot].clear();
+				counts[slot] = 0;
+				mins[slot] = amount;
+				maxs[slot] = amount;
+				amounts[slot].clear();
+			}
+			
+			sums[slot].add(amount);
+			counts[slot]++;
+			mins[slot] = mins[slot].min(amount);
+			maxs[slot] = maxs[slot].max(amount);
+			amounts[slot].add(amount);
+		}
+		
+		/*
+		 * Removes an amount added at the time, if its bucket wasn't reused since then.
+		 */
+		private void remove(BigDecimal amount, long time) {
+			
+			long epoch = Math.floorDiv(time, bucketWidth);
+			int slot = (int) Math.floorMod(epoch, (long) epochs.length);
+			
+			if(epochs[slot] != epoch || !amounts[slot].remove(amount)) return;
+			
+			sums[slot].subtract(amount);
+			counts[slot]--;
+			if(amount.compareTo(mins[slot]) == 0) mins[slot] = amounts[slot].min();
+			if(amount.compareTo(maxs[slot]) == 0) maxs[slot] = amounts[slot].max();
+		}
+		
+		private Statistic toStatistic(long window, long now) {
+			
+			long current = Math.floorDiv(now, bucketWidth);
+			long buckets = Math.min((window + bucketWidth - 1) / bucketWidth, epochs.length);
+			
+			var sum = new AmountSum();
+			long count = 0;
+			BigDecimal min = null;
+			BigDecimal max = null;
+			
+			for(long epoch = current; epoch > current - buckets; epoch--) {
+				int slot = (int) Math.floorMod(epoch, (long) epochs.length);
+				if(epochs[slot] == epoch && counts[slot] > 0) {
+					sum.add(sums[slot]);
+					count += counts[slot];
+					min = min == null ? mins[slot] : min.min(mins[slot]);
+					max = max == null ? maxs[slot] : max.max(maxs[slot]);
+				}
+			}
+			
+			return new Statistic(sum.toBigDecimal(), null, max, min, count, null);
+		}
+		
+		private void clear() {
+			for(int slot = 0; slot < epochs.length; slot++) {
+				epochs[slot] = Long.MIN_VALUE;
+				counts[slot] = 0;
+				sums[slot].clear();
+				amounts[slot].clear();
+			}
+		}
+	}
+
+}
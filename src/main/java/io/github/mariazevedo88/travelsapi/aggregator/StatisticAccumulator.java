@@ -0,0 +1,69 @@
+package io.github.mariazevedo88.travelsapi.aggregator;
+
+import java.math.BigDecimal;
+
+import io.github.mariazevedo88.travelsapi.model.Statistic;
+import io.github.mariazevedo88.travelsapi.model.Travel;
+
+/**
+ * Class that accumulates the sum, count, min and max of the travels' amounts in a single pass.
+ * Accumulators of different parts of the travels can be combined, so the travels can be
+ * split and accumulated in parallel, as in <code>Stream.collect</code>.
+ * 
+ * This class is not thread-safe: each thread must use its own accumulator.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public class StatisticAccumulator {
+	
+	private final AmountSum sum = new AmountSum();
+	private long count;
+	private BigDecimal min;
+	private BigDecimal max;
+	
+	/**
+	 * Method that accumulates the amount of a travel. Travels without amount are ignored.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param travel
+	 */
+	public void accept(Travel travel) {
+		
+		BigDecimal amount = travel.getAmount();
+		if(amount == null) return;
+		
+		sum.add(amount);
+		count++;
+		if(min == null || amount.compareTo(min) < 0) min = amount;
+		if(max == null || amount.compareTo(max) > 0) max = amount;
+	}
+	
+	/**
+	 * Method that combines the amounts accumulated by another accumulator into this one.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param other
+	 */
+	public void combine(StatisticAccumulator other) {
+		
+		if(other.count == 0) return;
+		
+		sum.add(other.sum);
+		count += other.count;
+		if(min == null || other.min.compareTo(min) < 0) min = other.min;
+		if(max == null || other.max.compareTo(max) > 0) max = other.max;
+	}
+	
+	/**
+	 * @return Statistic - sum, max, min and count accumulated, not rounded and without the average
+	 */
+	public Statistic toStatistic() {
+		return new Statistic(sum.toBigDecimal(), null, max, min, count, null);
+	}
+
+}
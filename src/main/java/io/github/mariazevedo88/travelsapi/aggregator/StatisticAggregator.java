@@ -0,0 +1,151 @@
+package io.github.mariazevedo88.travelsapi.aggregator;
+
+import java.math.BigDecimal;
+
+import io.github.mariazevedo88.travelsapi.model.Statistic;
+
+/**
+ * Class that keeps a running aggregate (sum, count, min and max) of the travels' amounts.
+ * It is updated on every insert, update and delete, so the statistics can be read without
+ * iterating the travels: the sum and the count in constant time, and the min and the max in
+ * logarithmic time, from the multiset of the amounts.
+ * 
+ * This class is not thread-safe: the <code>TravelRepository</code> guards each aggregate
+ * with the lock of the travels it aggregates.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public class StatisticAggregator {
+	
+	private final AmountSum sum = new AmountSum();
+	private long count;
+	private final AmountMultiset amounts = new AmountMultiset();
+	
+	/**
+	 * Method that adds an amount to the aggregate. Null amounts are ignored.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param amount
+	 */
+	public void add(BigDecimal amount) {
+		
+		if(amount == null) return;
+		
+		sum.add(amount);
+		count++;
+		amounts.add(amount);
+	}
+	
+	/**
+	 * Method that adds an amount given by its unscaled value and scale, as the stores keep it,
+	 * without creating a <code>BigDecimal</code> when the amount fits in minor units.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param unscaledValue
+	 * @param scale
+	 */
+	public void add(long unscaledValue, int scale) {
+		
+		long units = AmountSum.toMinorUnits(unscaledValue, scale);
+		if(units == Long.MIN_VALUE) {
+			add(BigDecimal.valueOf(unscaledValue, scale));
+			return;
+		}
+		
+		sum.addMinorUnits(units);
+		count++;
+		amounts.addMinorUnits(units);
+	}
+	
+	/**
+	 * Method that removes a previously added amount from the aggregate. Null amounts 
+	 * and amounts that were never added are ignored.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param amount
+	 */
+	public void remove(BigDecimal amount) {
+		
+		if(amount == null) return;
+		
+		if(!amounts.remove(amount)) return;
+		
+		sum.subtract(amount);
+		count--;
+	}
+	
+	/**
+	 * Method that replaces an amount already aggregated by a new one.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param oldAmount
+	 * @param newAmount
+	 */
+	public void replace(BigDecimal oldAmount, BigDecimal newAmount) {
+		remove(oldAmount);
+		add(newAmount);
+	}
+	
+	/**
+	 * Method that resets the aggregate.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 */
+	public void clear() {
+		sum.clear();
+		count = 0;
+		amounts.clear();
+	}
+	
+	/**
+	 * Method that returns a consistent snapshot of the aggregate. The values are not rounded
+	 * and the average is not calculated, since this is done by the <code>StatisticService</code>.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @return Statistic
+	 */
+	public Statistic toStatistic() {
+		return new Statistic(sum.toBigDecimal(), null, amounts.max(), amounts.min(), count, null);
+	}
+
+	/**
+	 * Method that merges two snapshots returned by <code>toStatistic</code> into one.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param first
+	 * @param second
+	 * @return Statistic
+	 */
+	public static Statistic merge(Statistic first, Statistic second) {
+		return new Statistic(first.getSum().add(second.getSum()), null, 
+				max(first.getMax(), second.getMax()), min(first.getMin(), second.getMin()), 
+				first.getCount() + second.getCount(), null);
+	}
+	
+	private static BigDecimal min(BigDecimal first, BigDecimal second) {
+		if(first == null) return second;
+		if(second == null) return first;
+		return first.min(second);
+	}
+	
+	private static BigDecimal max(BigDecimal first, BigDecimal second) {
+		if(first == null) return second;
+		if(second == null) return first;
+		return first.max(second);
+	}
+
+}
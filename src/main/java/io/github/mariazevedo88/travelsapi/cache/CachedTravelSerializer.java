@@ -0,0 +1,66 @@
+package io.github.mariazevedo88.travelsapi.cache;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.json.UTF8JsonGenerator;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import io.github.mariazevedo88.travelsapi.model.Travel;
+
+/**
+ * Serializer of <code>Travel</code> that copies the JSON cached in the <code>TravelJsonCache</code>
+ * to the output. The travels that aren't cached, and the outputs that are not compact UTF-8 
+ * JSON (such as pretty printed JSON or other formats), are written by the bean serializer.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public class CachedTravelSerializer extends StdSerializer<Travel> implements ResolvableSerializer {
+	
+	private static final long serialVersionUID = 1L;
+	
+	private final transient JsonSerializer<Object> serializer;
+	private final transient TravelJsonCache cache;
+	
+	@SuppressWarnings("unchecked")
+	public CachedTravelSerializer(JsonSerializer<?> serializer, TravelJsonCache cache) {
+		super(Travel.class);
+		this.serializer = (JsonSerializer<Object>) serializer;
+		this.cache = cache;
+	}
+	
+	@Override
+	public void serialize(Travel travel, JsonGenerator generator, SerializerProvider provider) throws IOException {
+		
+		if(generator instanceof UTF8JsonGenerator && generator.getPrettyPrinter() == null) {
+			SerializableString json = cache.get(travel);
+			if(json != null) {
+				generator.writeRawValue(json);
+				return;
+			}
+		}
+		
+		serializer.serialize(travel, generator, provider);
+	}
+	
+	@Override
+	public void serializeWithType(Travel travel, JsonGenerator generator, SerializerProvider provider, 
+			TypeSerializer typeSerializer) throws IOException {
+		serializer.serializeWithType(travel, generator, provider, typeSerializer);
+	}
+	
+	@Override
+	public void resolve(SerializerProvider provider) throws JsonMappingException {
+		if(serializer instanceof ResolvableSerializer) {
+			((ResolvableSerializer) serializer).resolve(provider);
+		}
+	}
+
+}
@@ -0,0 +1,113 @@
+package io.github.mariazevedo88.travelsapi.cache;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+/**
+ * JSON value already encoded in UTF-8, that a UTF-8 generator copies to its buffer with
+ * <code>writeRawValue</code>. The other forms (chars and quoted) are only built on demand, 
+ * since the value is never written as a JSON string.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+final class RawJson implements SerializableString {
+	
+	private final byte[] json;
+	
+	RawJson(byte[] json) {
+		this.json = json;
+	}
+	
+	@Override
+	public String getValue() {
+		return new String(json, StandardCharsets.UTF_8);
+	}
+	
+	@Override
+	public int charLength() {
+		return getValue().length();
+	}
+	
+	@Override
+	public char[] asQuotedChars() {
+		return quoted().asQuotedChars();
+	}
+	
+	/*
+	 * The array is not copied, so the callers must not change it.
+	 */
+	@Override
+	public byte[] asUnquotedUTF8() {
+		return json;
+	}
+	
+	@Override
+	public byte[] asQuotedUTF8() {
+		return quoted().asQuotedUTF8();
+	}
+	
+	@Override
+	public int appendQuotedUTF8(byte[] buffer, int offset) {
+		return quoted().appendQuotedUTF8(buffer, offset);
+	}
+	
+	@Override
+	public int appendQuoted(char[] buffer, int offset) {
+		return quoted().appendQuoted(buffer, offset);
+	}
+	
+	@Override
+	public int appendUnquotedUTF8(byte[] buffer, int offset) {
+		
+		if(offset + json.length > buffer.length) return -1;
+		
+		System.arraycopy(json, 0, buffer, offset, json.length);
+		return json.length;
+	}
+	
+	@Override
+	public int appendUnquoted(char[] buffer, int offset) {
+		return quoted().appendUnquoted(buffer, offset);
+	}
+	
+	@Override
+	public int writeQuotedUTF8(OutputStream out) throws IOException {
+		return quoted().writeQuotedUTF8(out);
+	}
+	
+	@Override
+	public int writeUnquotedUTF8(OutputStream out) throws IOException {
+		out.write(json);
+		return json.length;
+	}
+	
+	@Override
+	public int putQuotedUTF8(ByteBuffer buffer) throws IOException {
+		return quoted().putQuotedUTF8(buffer);
+	}
+	
+	@Override
+	public int putUnquotedUTF8(ByteBuffer buffer) throws IOException {
+		
+		if(json.length > buffer.remaining()) return -1;
+		
+		buffer.put(json);
+		return json.length;
+	}
+	
+	@Override
+	public String toString() {
+		return getValue();
+	}
+	
+	private SerializedString quoted() {
+		return new SerializedString(getValue());
+	}
+
+}
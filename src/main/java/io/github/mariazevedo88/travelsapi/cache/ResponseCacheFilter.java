@@ -0,0 +1,261 @@
+package io.github.mariazevedo88.travelsapi.cache;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import io.github.mariazevedo88.travelsapi.service.TravelService;
+
+/**
+ * Filter that caches the bytes of the successful responses of the GET requests, by URI, query
+ * parameters and <code>Accept</code> header, tagged with the version of the travels when the request 
+ * started. While the version doesn't change, the cached bytes are sent again without reading 
+ * the travels or serializing them, and a request with the ETag of the response in the 
+ * <code>If-None-Match</code> header gets a <code>304 Not Modified</code> with no body.
+ * 
+ * The ETag is strong: it is made of the version and the CRC-32 of the bytes, so a response 
+ * built again after the cached one is evicted still matches the ETag sent to the clients. 
+ * The least recently used responses are evicted when there are more than 
+ * <code>maxEntries</code>. Responses that depend on the time, such as the statistics of 
+ * a window, must not be cached.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public class ResponseCacheFilter extends OncePerRequestFilter {
+	
+	private static final String VERSION_ATTRIBUTE = ResponseCacheFilter.class.getName() + ".VERSION";
+	
+	private final TravelService travelService;
+	private final List<String> uncacheableParameters;
+	private final Map<String, CachedResponse> responses;
+	
+	/**
+	 * @param travelService - source of the version of the travels
+	 * @param maxEntries - maximum number of responses cached
+	 * @param uncacheableParameters - query parameters that make the response depend on the time
+	 */
+	public ResponseCacheFilter(TravelService travelService, int maxEntries, List<String> uncacheableParameters) {
+		this.travelService = travelService;
+		this.uncacheableParameters = uncacheableParameters;
+		this.responses = new LinkedHashMap<>(16, 0.75f, true) {
+			
+			private static final long serialVersionUID = 1L;
+			
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+				return size() > maxEntries;
+			}
+		};
+	}
+	
+	/*
+	 * In the async execution mode, the response is written in the async dispatch, where the
+	 * wrapper created by the first dispatch is completed.
+	 */
+	@Override
+	protected boolean shouldNotFilterAsyncDispatch() {
+		return false;
+	}
+	
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		
+		if(!isCacheable(request)) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+		
+		String key = keyOf(request);
+		Long version;
+		ContentCachingResponseWrapper wrapper;
+		
+		if(isAsyncDispatch(request)) {
+			version = (Long) request.getAttribute(VERSION_ATTRIBUTE);
+			wrapper = WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+			if(version == null || wrapper == null) {
+				filterChain.doFilter(request, response);
+				return;
+			}
+		}else {
+			version = travelService.getVersion();
+			CachedResponse cached = get(key, version);
+			if(cached != null) {
+				send(cached, request, response);
+				return;
+			}
+			request.setAttribute(VERSION_ATTRIBUTE, version);
+			wrapper = new ContentCachingResponseWrapper(response);
+		}
+		
+		try {
+			filterChain.doFilter(request, wrapper);
+		}finally {
+			if(!isAsyncStarted(request)) {
+				complete(key, version, request, wrapper);
+			}
+		}
+	}
+	
+	/**
+	 * Method that caches the response built by the controller, if it was successful and the
+	 * travels didn't change while it was built, and sends it (or a 304, if the client has it).
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param key
+	 * @param version - version of the travels when the request started
+	 * @param request
+	 * @param wrapper
+	 * @throws IOException
+	 */
+	private void complete(String key, long version, HttpServletRequest request, ContentCachingResponseWrapper wrapper) 
+			throws IOException {
+		
+		HttpServletResponse rawResponse = (HttpServletResponse) wrapper.getResponse();
+		
+		if(wrapper.getStatus() != HttpServletResponse.SC_OK || rawResponse.isCommitted()) {
+			wrapper.copyBodyToResponse();
+			return;
+		}
+		
+		byte[] body = wrapper.getContentAsByteArray();
+		List<Map.Entry<String, String>> headers = new ArrayList<>();
+		for(String name : List.of(HttpHeaders.LINK)) {
+			String value = wrapper.getHeader(name);
+			if(value != null) headers.add(Map.entry(name, value));
+		}
+		
+		var cached = new CachedResponse(version, etagOf(version, body), wrapper.getContentType(), headers, body);
+		if(travelService.getVersion() == version) {
+			put(key, cached);
+		}
+		
+		rawResponse.setHeader(HttpHeaders.ETAG, cached.etag);
+		rawResponse.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+		if(isNotModified(request, cached.etag)) {
+			rawResponse.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+			return;
+		}
+		wrapper.copyBodyToResponse();
+	}
+	
+	private void send(CachedResponse cached, HttpServletRequest request, HttpServletResponse response) throws IOException {
+		
+		response.setHeader(HttpHeaders.ETAG, cached.etag);
+		response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+		if(isNotModified(request, cached.etag)) {
+			response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+			return;
+		}
+		
+		response.setStatus(HttpServletResponse.SC_OK);
+		for(Map.Entry<String, String> header : cached.headers) {
+			response.setHeader(header.getKey(), header.getValue());
+		}
+		if(cached.contentType != null) response.setContentType(cached.contentType);
+		response.setContentLength(cached.body.length);
+		response.getOutputStream().write(cached.body);
+	}
+	
+	private boolean isCacheable(HttpServletRequest request) {
+		
+		if(!HttpMethod.GET.matches(request.getMethod())) return false;
+		
+		for(String parameter : uncacheableParameters) {
+			if(request.getParameter(parameter) != null) return false;
+		}
+		return true;
+	}
+	
+	/*
+	 * The parameters are sorted, so the same query in any order is a single entry.
+	 */
+	private static String keyOf(HttpServletRequest request) {
+		
+		var key = new StringBuilder(request.getRequestURI());
+		new TreeMap<>(request.getParameterMap()).forEach((name, values) -> {
+			for(String value : values) {
+				key.append('&').append(name).append('=').append(value);
+			}
+		});
+		
+		String accept = request.getHeader(HttpHeaders.ACCEPT);
+		return key.append('\n').append(accept != null ? accept : "").toString();
+	}
+	
+	private static String etagOf(long version, byte[] body) {
+		var crc = new CRC32();
+		crc.update(body);
+		return "\"" + Long.toHexString(version) + "-" + Long.toHexString(crc.getValue()) + "\"";
+	}
+	
+	/*
+	 * The comparison is weak, as required for If-None-Match: the ETags sent by this filter are 
+	 * strong, but they are made weak when the response is compressed.
+	 */
+	private static boolean isNotModified(HttpServletRequest request, String etag) {
+		
+		String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+		if(ifNoneMatch == null) return false;
+		
+		for(String candidate : ifNoneMatch.split(",")) {
+			candidate = candidate.trim();
+			if(candidate.startsWith("W/")) candidate = candidate.substring(2);
+			if(candidate.equals("*") || candidate.equals(etag)) return true;
+		}
+		return false;
+	}
+	
+	private synchronized CachedResponse get(String key, long version) {
+		CachedResponse cached = responses.get(key);
+		return cached != null && cached.version == version ? cached : null;
+	}
+	
+	private synchronized void put(String key, CachedResponse cached) {
+		CachedResponse previous = responses.get(key);
+		if(previous == null || previous.version <= cached.version) responses.put(key, cached);
+	}
+	
+	/**
+	 * Class that holds a response cached, with the version of the travels it was built from.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 */
+	private static final class CachedResponse {
+		
+		private final long version;
+		private final String etag;
+		private final String contentType;
+		private final List<Map.Entry<String, String>> headers;
+		private final byte[] body;
+		
+		private CachedResponse(long version, String etag, String contentType, List<Map.Entry<String, String>> headers, 
+				byte[] body) {
+			this.version = version;
+			this.etag = etag;
+			this.contentType = contentType;
+			this.headers = headers;
+			this.body = body;
+		}
+	}
+
+}
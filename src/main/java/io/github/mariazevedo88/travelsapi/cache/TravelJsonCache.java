@@ -0,0 +1,103 @@
+package io.github.mariazevedo88.travelsapi.cache;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.core.SerializableString;
+
+import io.github.mariazevedo88.travelsapi.model.Travel;
+
+/**
+ * Cache of the JSON of each travel, encoded when the travel is written, so the travels that
+ * are listed many times are serialized only once. The JSON is kept with a copy of the values
+ * it was encoded from, and is only returned for a travel with the same values, so an entry
+ * that was replaced by a concurrent write is never sent instead of the stored travel.
+ * 
+ * It costs the size of the JSON of every travel in the heap, besides the store, so it is
+ * disabled by default.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public class TravelJsonCache {
+	
+	private final boolean enabled;
+	
+	private final ConcurrentHashMap<Long, CachedTravel> travels = new ConcurrentHashMap<>();
+	
+	public TravelJsonCache(boolean enabled) {
+		this.enabled = enabled;
+	}
+	
+	public boolean isEnabled() {
+		return enabled;
+	}
+	
+	/**
+	 * Method that caches the JSON of the travel, replacing the JSON of the travel with the 
+	 * same id.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param travel
+	 * @param json - the travel encoded in UTF-8
+	 */
+	public void put(Travel travel, byte[] json) {
+		
+		if(!enabled || travel.getId() == null) return;
+		
+		var values = new Travel(travel.getId(), travel.getOrderNumber(), travel.getAmount(), 
+				travel.getStartDate(), travel.getEndDate(), travel.getType());
+		travels.put(travel.getId(), new CachedTravel(values, new RawJson(json)));
+	}
+	
+	/**
+	 * Method that returns the JSON cached of the travel, to be written by a UTF-8 generator 
+	 * with <code>writeRawValue</code>.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param travel
+	 * @return SerializableString - the JSON, or null if it isn't cached with the same values
+	 */
+	public SerializableString get(Travel travel) {
+		
+		if(!enabled || travel.getId() == null) return null;
+		
+		CachedTravel cached = travels.get(travel.getId());
+		return cached != null && hasSameValues(cached.values, travel) ? cached.json : null;
+	}
+	
+	public int size() {
+		return travels.size();
+	}
+	
+	public void clear() {
+		travels.clear();
+	}
+	
+	/*
+	 * The amounts are compared with their scale, which is written in the JSON.
+	 */
+	private static boolean hasSameValues(Travel cached, Travel travel) {
+		return Objects.equals(cached.getAmount(), travel.getAmount()) 
+				&& Objects.equals(cached.getStartDate(), travel.getStartDate())
+				&& Objects.equals(cached.getEndDate(), travel.getEndDate())
+				&& cached.getType() == travel.getType()
+				&& Objects.equals(cached.getOrderNumber(), travel.getOrderNumber());
+	}
+	
+	private static final class CachedTravel {
+		
+		private final Travel values;
+		private final RawJson json;
+		
+		private CachedTravel(Travel values, RawJson json) {
+			this.values = values;
+			this.json = json;
+		}
+	}
+
+}
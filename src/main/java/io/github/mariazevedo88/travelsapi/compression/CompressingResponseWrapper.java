@@ -0,0 +1,315 @@
+package io.github.mariazevedo88.travelsapi.compression;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Response wrapper that compresses the body as it is written. The first <code>minSize</code>
+ * bytes are held back: a body that ends before that, or that declares a smaller length, is
+ * sent as it is. Otherwise, the held bytes and the rest of the body go through the compressor
+ * straight to the response, in chunks, so the body is never held in memory. A flush before
+ * the minimum size is reached starts the compression at once, so a stream that flushes its
+ * first bytes still sends them right away. Only successful responses that are not encoded 
+ * yet are compressed.
+ * 
+ * The compressed body is a different representation, so its strong ETag is made weak.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+class CompressingResponseWrapper extends HttpServletResponseWrapper {
+	
+	/**
+	 * Interface of the compressors of an encoding, which write to the stream of the response.
+	 */
+	interface Compressor {
+		OutputStream compress(OutputStream out) throws IOException;
+	}
+	
+	private final String encoding;
+	private final Compressor compressor;
+	private final int minSize;
+	
+	private long contentLength = -1;
+	private CompressingOutputStream stream;
+	private PrintWriter writer;
+	
+	/**
+	 * @param response
+	 * @param encoding - value of the <code>Content-Encoding</code> header
+	 * @param compressor
+	 * @param minSize - minimum size of a body to be compressed, in bytes
+	 */
+	CompressingResponseWrapper(HttpServletResponse response, String encoding, Compressor compressor, int minSize) {
+		super(response);
+		this.encoding = encoding;
+		this.compressor = compressor;
+		this.minSize = minSize;
+	}
+	
+	@Override
+	public ServletOutputStream getOutputStream() throws IOException {
+		if(writer != null) throw new IllegalStateException("getWriter() has already been called.");
+		return stream();
+	}
+	
+	@Override
+	public PrintWriter getWriter() throws IOException {
+		if(writer == null) {
+			if(stream != null) throw new IllegalStateException("getOutputStream() has already been called.");
+			writer = new PrintWriter(new OutputStreamWriter(stream(), getCharacterEncoding()));
+		}
+		return writer;
+	}
+	
+	@Override
+	public void setContentLength(int length) {
+		setContentLengthLong(length);
+	}
+	
+	@Override
+	public void setContentLengthLong(long length) {
+		if(stream != null && stream.state != State.BUFFERING) {
+			if(stream.state == State.IDENTITY) super.setContentLengthLong(length);
+			return;
+		}
+		contentLength = length;
+	}
+	
+	@Override
+	public void setHeader(String name, String value) {
+		if(HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+			setContentLengthLong(Long.parseLong(value));
+		}else {
+			super.setHeader(name, value);
+		}
+	}
+	
+	@Override
+	public void addHeader(String name, String value) {
+		if(HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+			setContentLengthLong(Long.parseLong(value));
+		}else {
+			super.addHeader(name, value);
+		}
+	}
+	
+	@Override
+	public void setIntHeader(String name, int value) {
+		if(HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+			setContentLengthLong(value);
+		}else {
+			super.setIntHeader(name, value);
+		}
+	}
+	
+	@Override
+	public void addIntHeader(String name, int value) {
+		if(HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+			setContentLengthLong(value);
+		}else {
+			super.addIntHeader(name, value);
+		}
+	}
+	
+	@Override
+	public void flushBuffer() throws IOException {
+		if(writer != null) writer.flush();
+		if(stream != null) stream.flush();
+		super.flushBuffer();
+	}
+	
+	@Override
+	public void resetBuffer() {
+		super.resetBuffer();
+		if(stream != null && stream.state == State.BUFFERING) stream.count = 0;
+	}
+	
+	@Override
+	public void reset() {
+		super.reset();
+		contentLength = -1;
+		if(stream != null && stream.state == State.BUFFERING) stream.count = 0;
+	}
+	
+	/**
+	 * Method that writes the bytes held back, or ends the compressed body.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @throws IOException
+	 */
+	void finish() throws IOException {
+		if(writer != null) writer.flush();
+		if(stream != null) stream.finish();
+	}
+	
+	private CompressingOutputStream stream() throws IOException {
+		if(stream == null) stream = new CompressingOutputStream(super.getOutputStream());
+		return stream;
+	}
+	
+	private boolean isCompressible() {
+		return getStatus() == HttpServletResponse.SC_OK && getHeader(HttpHeaders.CONTENT_ENCODING) == null
+				&& (contentLength < 0 || contentLength >= minSize);
+	}
+	
+	private enum State { BUFFERING, IDENTITY, COMPRESSING, FINISHED }
+	
+	/**
+	 * Class of the stream of the body, which holds back the first bytes and then writes them
+	 * as they are or compressed.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 */
+	private final class CompressingOutputStream extends ServletOutputStream {
+		
+		private final ServletOutputStream out;
+		private final byte[] buffer = new byte[minSize];
+		private int count;
+		private State state = State.BUFFERING;
+		private OutputStream compressed;
+		
+		private CompressingOutputStream(ServletOutputStream out) {
+			this.out = out;
+		}
+		
+		@Override
+		public void write(int b) throws IOException {
+			write(new byte[] { (byte) b }, 0, 1);
+		}
+		
+		@Override
+		public void write(byte[] bytes, int offset, int length) throws IOException {
+			
+			if(state == State.BUFFERING) {
+				if(!isCompressible()) {
+					writeIdentity();
+				}else if(count + length < minSize) {
+					System.arraycopy(bytes, offset, buffer, count, length);
+					count += length;
+					return;
+				}else {
+					writeCompressed();
+				}
+			}
+			
+			if(state == State.FINISHED) throw new IOException("The response has already been written.");
+			(state == State.COMPRESSING ? compressed : out).write(bytes, offset, length);
+		}
+		
+		/*
+		 * A flush sends what was written right away, so, while the bytes are held back, the 
+		 * encoding is chosen without waiting for the minimum size.
+		 */
+		@Override
+		public void flush() throws IOException {
+			
+			if(state == State.BUFFERING) {
+				if(isCompressible()) {
+					writeCompressed();
+				}else {
+					writeIdentity();
+				}
+			}
+			
+			if(state == State.COMPRESSING) {
+				compressed.flush();
+			}else if(state == State.IDENTITY) {
+				out.flush();
+			}
+		}
+		
+		@Override
+		public void close() throws IOException {
+			finish();
+		}
+		
+		@Override
+		public boolean isReady() {
+			return out.isReady();
+		}
+		
+		@Override
+		public void setWriteListener(WriteListener listener) {
+			out.setWriteListener(listener);
+		}
+		
+		private void finish() throws IOException {
+			
+			if(state == State.BUFFERING) {
+				if(count > 0 && contentLength < 0) contentLength = count;
+				writeIdentity();
+			}
+			if(state == State.COMPRESSING) {
+				compressed.close();
+			}
+			state = State.FINISHED;
+		}
+		
+		private void writeIdentity() throws IOException {
+			state = State.IDENTITY;
+			if(contentLength >= 0) CompressingResponseWrapper.super.setContentLengthLong(contentLength);
+			out.write(buffer, 0, count);
+		}
+		
+		private void writeCompressed() throws IOException {
+			
+			state = State.COMPRESSING;
+			CompressingResponseWrapper.super.setHeader(HttpHeaders.CONTENT_ENCODING, encoding);
+			
+			String etag = getHeader(HttpHeaders.ETAG);
+			if(etag != null && !etag.startsWith("W/")) {
+				CompressingResponseWrapper.super.setHeader(HttpHeaders.ETAG, "W/" + etag);
+			}
+			
+			compressed = compressor.compress(new UnclosableOutputStream(out));
+			compressed.write(buffer, 0, count);
+		}
+	}
+	
+	/**
+	 * Stream that ends the compressed body without closing the stream of the response, which
+	 * belongs to the container.
+	 */
+	private static final class UnclosableOutputStream extends OutputStream {
+		
+		private final OutputStream out;
+		
+		private UnclosableOutputStream(OutputStream out) {
+			this.out = out;
+		}
+		
+		@Override
+		public void write(int b) throws IOException {
+			out.write(b);
+		}
+		
+		@Override
+		public void write(byte[] bytes, int offset, int length) throws IOException {
+			out.write(bytes, offset, length);
+		}
+		
+		@Override
+		public void flush() throws IOException {
+			out.flush();
+		}
+		
+		@Override
+		public void close() throws IOException {
+			out.flush();
+		}
+	}
+
+}
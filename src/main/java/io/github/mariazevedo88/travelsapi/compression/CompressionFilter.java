@@ -0,0 +1,190 @@
+package io.github.mariazevedo88.travelsapi.compression;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import com.github.luben.zstd.ZstdOutputStream;
+import com.github.luben.zstd.util.Native;
+
+import io.github.mariazevedo88.travelsapi.enumeration.ContentEncodingEnum;
+
+/**
+ * Filter that compresses the responses of the GET requests with the content encoding preferred
+ * by the client in the <code>Accept-Encoding</code> header: zstd or gzip. The body is compressed
+ * while it is written, so a long list or export is sent in chunks and never held in memory,
+ * and a body smaller than <code>minSize</code> is sent as it is.
+ * 
+ * zstd depends on a native library; if it can't be loaded on the platform, only gzip is used.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public class CompressionFilter extends OncePerRequestFilter {
+	
+	private static final Logger logger = LogManager.getLogger(CompressionFilter.class);
+	
+	private static final String WRAPPER_ATTRIBUTE = CompressionFilter.class.getName() + ".WRAPPER";
+	
+	private static final int GZIP_BUFFER_SIZE = 8192;
+	
+	private final Map<ContentEncodingEnum, CompressingResponseWrapper.Compressor> compressors =
+			new EnumMap<>(ContentEncodingEnum.class);
+	private final int minSize;
+	
+	/**
+	 * @param gzipLevel - compression level of gzip, from 1 (fastest) to 9 (smallest)
+	 * @param zstdLevel - compression level of zstd, from 1 (fastest) to 22 (smallest)
+	 * @param minSize - minimum size of a body to be compressed, in bytes
+	 */
+	public CompressionFilter(int gzipLevel, int zstdLevel, int minSize) {
+		
+		if(gzipLevel < Deflater.BEST_SPEED || gzipLevel > Deflater.BEST_COMPRESSION) {
+			throw new IllegalArgumentException("The gzip level must be between 1 and 9.");
+		}
+		if(zstdLevel < 1 || zstdLevel > 22) {
+			throw new IllegalArgumentException("The zstd level must be between 1 and 22.");
+		}
+		if(minSize < 0) {
+			throw new IllegalArgumentException("The minimum size must not be negative.");
+		}
+		
+		if(isZstdAvailable()) {
+			compressors.put(ContentEncodingEnum.ZSTD, out -> new ZstdOutputStream(out, zstdLevel));
+		}
+		compressors.put(ContentEncodingEnum.GZIP, out -> new LeveledGzipOutputStream(out, gzipLevel));
+		this.minSize = minSize;
+	}
+	
+	/*
+	 * In the async execution mode, and in the export, the body is written after the first
+	 * dispatch, so the compressed body is only ended in the async dispatch.
+	 */
+	@Override
+	protected boolean shouldNotFilterAsyncDispatch() {
+		return false;
+	}
+	
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		
+		CompressingResponseWrapper wrapper;
+		
+		if(isAsyncDispatch(request)) {
+			wrapper = (CompressingResponseWrapper) request.getAttribute(WRAPPER_ATTRIBUTE);
+			if(wrapper == null) {
+				filterChain.doFilter(request, response);
+				return;
+			}
+			boolean wrapped = WebUtils.getNativeResponse(response, CompressingResponseWrapper.class) != null;
+			filterChain.doFilter(request, wrapped ? response : wrapper);
+		}else {
+			if(!HttpMethod.GET.matches(request.getMethod())) {
+				filterChain.doFilter(request, response);
+				return;
+			}
+			
+			response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+			ContentEncodingEnum encoding = negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+			if(encoding == null) {
+				filterChain.doFilter(request, response);
+				return;
+			}
+			
+			wrapper = new CompressingResponseWrapper(response, encoding.getValue(), compressors.get(encoding), minSize);
+			request.setAttribute(WRAPPER_ATTRIBUTE, wrapper);
+			filterChain.doFilter(request, wrapper);
+		}
+		
+		if(!isAsyncStarted(request)) {
+			wrapper.finish();
+		}
+	}
+	
+	/**
+	 * Method that chooses the content encoding with the highest quality in the
+	 * <code>Accept-Encoding</code> header, among the ones available.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param acceptEncoding
+	 * @return ContentEncodingEnum, or null if the response must not be compressed
+	 */
+	private ContentEncodingEnum negotiate(String acceptEncoding) {
+		
+		if(acceptEncoding == null) return null;
+		
+		Map<String, Double> qualities = new HashMap<>();
+		for(String coding : acceptEncoding.split(",")) {
+			String[] parts = coding.split(";");
+			double quality = 1;
+			for(int i = 1; i < parts.length; i++) {
+				String parameter = parts[i].trim();
+				if(parameter.startsWith("q=")) {
+					try {
+						quality = Double.parseDouble(parameter.substring(2));
+					}catch(NumberFormatException e) {
+						quality = 0;
+					}
+				}
+			}
+			qualities.put(parts[0].trim().toLowerCase(Locale.ROOT), quality);
+		}
+		
+		ContentEncodingEnum chosen = null;
+		double chosenQuality = 0;
+		for(ContentEncodingEnum encoding : compressors.keySet()) {
+			double quality = qualities.getOrDefault(encoding.getValue(), qualities.getOrDefault("*", 0d));
+			if(quality > chosenQuality) {
+				chosen = encoding;
+				chosenQuality = quality;
+			}
+		}
+		return chosen;
+	}
+	
+	private static boolean isZstdAvailable() {
+		try {
+			Native.load();
+			return true;
+		}catch(LinkageError e) {
+			logger.warn("zstd is not available, only gzip will be used. {}", e.toString());
+			return false;
+		}
+	}
+	
+	/**
+	 * Class of the gzip stream with a compression level, which flushes the compressed bytes
+	 * when the response is flushed.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 */
+	private static final class LeveledGzipOutputStream extends GZIPOutputStream {
+		
+		private LeveledGzipOutputStream(OutputStream out, int level) throws IOException {
+			super(out, GZIP_BUFFER_SIZE, true);
+			def.setLevel(level);
+		}
+	}
+
+}
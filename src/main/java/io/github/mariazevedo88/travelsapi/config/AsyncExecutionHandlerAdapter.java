@@ -0,0 +1,70 @@
+package io.github.mariazevedo88.travelsapi.config;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.ServletInvocableHandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Handler adapter of the <code>async</code> execution mode. The arguments of the handlers of 
+ * the controllers are resolved in the server's thread, as usual, but the handler is returned as 
+ * a <code>Callable</code>, that Spring MVC executes in the pool of asynchronous requests. The 
+ * server's thread is released meanwhile, and the response is written when the handler returns, 
+ * as in the <code>thread-per-request</code> mode.
+ * 
+ * The handlers that are already asynchronous, such as the ones that stream a response, are 
+ * executed as they are.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public class AsyncExecutionHandlerAdapter extends RequestMappingHandlerAdapter {
+	
+	private final Set<Class<?>> controllers;
+	
+	/**
+	 * @param controllers - classes of the controllers whose handlers are executed asynchronously
+	 */
+	public AsyncExecutionHandlerAdapter(Set<Class<?>> controllers) {
+		this.controllers = controllers;
+	}
+	
+	@Override
+	protected ServletInvocableHandlerMethod createInvocableHandlerMethod(HandlerMethod handlerMethod) {
+		
+		if(!controllers.contains(handlerMethod.getBeanType()) || isStreaming(handlerMethod)) {
+			return super.createInvocableHandlerMethod(handlerMethod);
+		}
+		
+		return new ServletInvocableHandlerMethod(handlerMethod) {
+			@Override
+			public Object invokeForRequest(NativeWebRequest request, ModelAndViewContainer mavContainer, 
+					Object... providedArgs) throws Exception {
+				Object[] args = getMethodArgumentValues(request, mavContainer, providedArgs);
+				return (Callable<Object>) () -> doInvoke(args);
+			}
+		};
+	}
+	
+	/**
+	 * Method that checks if the handler returns a stream, written asynchronously.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param handlerMethod
+	 * @return boolean
+	 */
+	private boolean isStreaming(HandlerMethod handlerMethod) {
+		ResolvableType returnType = ResolvableType.forMethodReturnType(handlerMethod.getMethod());
+		return StreamingResponseBody.class.isAssignableFrom(returnType.resolve(Object.class)) 
+				|| StreamingResponseBody.class.isAssignableFrom(returnType.getGeneric().resolve(Object.class));
+	}
+
+}
@@ -0,0 +1,56 @@
+package io.github.mariazevedo88.travelsapi.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import io.github.mariazevedo88.travelsapi.compression.CompressionFilter;
+
+/**
+ * Configuration of the compression of the travel list and of the export, the largest responses.
+ * It is enabled by the property <code>travels.compression.enabled</code> (default true). The 
+ * levels are set by <code>travels.compression.gzip-level</code> (default 6) and 
+ * <code>travels.compression.zstd-level</code> (default 3), and the bodies smaller than 
+ * <code>travels.compression.min-size</code> bytes (default 2048) are not compressed.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+@Configuration
+public class CompressionConfiguration {
+	
+	@Value("${travels.compression.enabled:true}")
+	private boolean enabled;
+	
+	@Value("${travels.compression.gzip-level:6}")
+	private int gzipLevel;
+	
+	@Value("${travels.compression.zstd-level:3}")
+	private int zstdLevel;
+	
+	@Value("${travels.compression.min-size:2048}")
+	private int minSize;
+	
+	/**
+	 * Method that registers the compression filter for the compressed end-points. It comes
+	 * before the response cache, so the cached responses are kept uncompressed and 
+	 * compressed in the encoding of each client.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @return FilterRegistrationBean
+	 */
+	@Bean
+	public FilterRegistrationBean<CompressionFilter> compressionFilter() {
+		
+		var registration = new FilterRegistrationBean<>(new CompressionFilter(gzipLevel, zstdLevel, minSize));
+		registration.addUrlPatterns("/api-travels/travels", "/api-travels/travels/export");
+		registration.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+		registration.setEnabled(enabled);
+		return registration;
+	}
+
+}
@@ -0,0 +1,105 @@
+package io.github.mariazevedo88.travelsapi.config;
+
+import java.util.Set;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcRegistrations;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import io.github.mariazevedo88.travelsapi.controller.StatisticController;
+import io.github.mariazevedo88.travelsapi.controller.TravelController;
+import io.github.mariazevedo88.travelsapi.enumeration.ExecutionModeEnum;
+
+/**
+ * Configuration of the execution mode of the travels API, selected at startup by the property
+ * <code>travels.execution-mode</code>: <code>thread-per-request</code> (default) or <code>async</code>.
+ * 
+ * In the <code>async</code> mode, the handlers of the travel and statistic controllers are executed 
+ * in a fixed pool of <code>travels.execution.threads</code> threads (by default, two per processor), 
+ * with a queue of <code>travels.execution.queue-size</code> requests. When the queue is full, the 
+ * request is executed by the server's thread, which slows down the acceptance of new requests.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+@Configuration
+public class ExecutionConfiguration implements WebMvcConfigurer {
+	
+	@Value("${travels.execution-mode:thread-per-request}")
+	private String executionMode;
+	
+	@Value("${travels.execution.threads:0}")
+	private int threads;
+	
+	@Value("${travels.execution.queue-size:10000}")
+	private int queueSize;
+	
+	@Value("${travels.execution.timeout-ms:30000}")
+	private long timeoutMillis;
+	
+	private boolean isAsync() {
+		return ExecutionModeEnum.getEnum(executionMode) == ExecutionModeEnum.ASYNC;
+	}
+	
+	/**
+	 * Method that replaces the handler adapter of Spring MVC, in the <code>async</code> mode.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @return WebMvcRegistrations
+	 */
+	@Bean
+	public WebMvcRegistrations executionModeRegistrations() {
+		
+		boolean async = isAsync();
+		return new WebMvcRegistrations() {
+			@Override
+			public RequestMappingHandlerAdapter getRequestMappingHandlerAdapter() {
+				return async ? new AsyncExecutionHandlerAdapter(Set.of(TravelController.class, StatisticController.class)) : null;
+			}
+		};
+	}
+	
+	/**
+	 * Method that creates the pool that executes the handlers in the <code>async</code> mode. 
+	 * It is a bean, so it is shut down with the context, after the requests being executed 
+	 * finish or time out.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @return ThreadPoolTaskExecutor
+	 */
+	@Bean
+	@ConditionalOnProperty(name = "travels.execution-mode", havingValue = "async")
+	public ThreadPoolTaskExecutor requestExecutor() {
+		
+		var executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(threads > 0 ? threads : 2 * Runtime.getRuntime().availableProcessors());
+		executor.setMaxPoolSize(executor.getCorePoolSize());
+		executor.setQueueCapacity(queueSize);
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setThreadNamePrefix("travels-request-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationMillis(timeoutMillis);
+		return executor;
+	}
+	
+	@Override
+	public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+		
+		if(!isAsync()) return;
+		
+		configurer.setTaskExecutor(requestExecutor());
+		configurer.setDefaultTimeout(timeoutMillis);
+	}
+
+}
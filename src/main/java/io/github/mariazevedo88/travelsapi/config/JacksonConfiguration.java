@@ -0,0 +1,102 @@
+package io.github.mariazevedo88.travelsapi.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+
+import io.github.mariazevedo88.travelsapi.cache.CachedTravelSerializer;
+import io.github.mariazevedo88.travelsapi.cache.TravelJsonCache;
+import io.github.mariazevedo88.travelsapi.model.Travel;
+import io.github.mariazevedo88.travelsapi.serializer.BinaryWireModule;
+
+/**
+ * Configuration of the <code>ObjectMapper</code> shared by the message converters and the
+ * controllers. The modules declared here are registered by Spring Boot in that mapper.
+ * The binary format (CBOR, <code>application/cbor</code>) has a mapper of its own.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+@Configuration
+public class JacksonConfiguration {
+	
+	/**
+	 * Module that replaces the reflection used to bind the DTOs and to serialize the models
+	 * by generated bytecode.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @return Module
+	 */
+	@Bean
+	public Module afterburnerModule() {
+		return new AfterburnerModule();
+	}
+	
+	/**
+	 * Cache of the JSON of each travel, enabled by the property <code>travels.json-cache.enabled</code>.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param enabled
+	 * @return TravelJsonCache
+	 */
+	@Bean
+	public TravelJsonCache travelJsonCache(@Value("${travels.json-cache.enabled:false}") boolean enabled) {
+		return new TravelJsonCache(enabled);
+	}
+	
+	/**
+	 * Module that writes the travels with the JSON of the cache, when it is enabled.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param cache
+	 * @return Module
+	 */
+	@Bean
+	public Module travelJsonCacheModule(TravelJsonCache cache) {
+		
+		var module = new SimpleModule("TravelJsonCacheModule");
+		if(!cache.isEnabled()) return module;
+		
+		module.setSerializerModifier(new BeanSerializerModifier() {
+			@Override
+			public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription description, 
+					JsonSerializer<?> serializer) {
+				return description.getBeanClass() == Travel.class ? new CachedTravelSerializer(serializer, cache) : serializer;
+			}
+		});
+		return module;
+	}
+	
+	/**
+	 * Converter of the requests and responses in CBOR, selected by content negotiation. It
+	 * replaces the converter that Spring MVC registers when the format is available, which 
+	 * writes the dates as text.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @return MappingJackson2CborHttpMessageConverter
+	 */
+	@Bean
+	public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter() {
+		return new MappingJackson2CborHttpMessageConverter(Jackson2ObjectMapperBuilder.cbor()
+				.modulesToInstall(new AfterburnerModule(), new BinaryWireModule()).build());
+	}
+
+}
@@ -0,0 +1,37 @@
+package io.github.mariazevedo88.travelsapi.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.github.mariazevedo88.travelsapi.service.TravelService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Configuration of the metrics of the travel's store. The metrics of the requests, of the 
+ * JVM memory (heap and mapped buffers) and the Prometheus endpoint are configured by 
+ * Spring Boot, in the <code>application.properties</code>.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+@Configuration
+public class MetricsConfiguration {
+	
+	/**
+	 * Gauge with the number of travels stored, read when the metrics are collected.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param travelService
+	 * @return MeterBinder
+	 */
+	@Bean
+	public MeterBinder travelStoreMetrics(TravelService travelService) {
+		return registry -> Gauge.builder("travels.store.size", travelService, TravelService::count)
+				.description("Number of travels stored")
+				.register(registry);
+	}
+
+}
@@ -0,0 +1,49 @@
+package io.github.mariazevedo88.travelsapi.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.github.mariazevedo88.travelsapi.cache.ResponseCacheFilter;
+import io.github.mariazevedo88.travelsapi.service.TravelService;
+
+/**
+ * Configuration of the cache of the responses of the travel list and of the statistics, which 
+ * are polled by dashboards. It is enabled by the property <code>travels.response-cache.enabled</code> 
+ * (default true), and keeps up to <code>travels.response-cache.max-entries</code> responses.
+ * The statistics of a window change with the time, so they are not cached.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+@Configuration
+public class ResponseCacheConfiguration {
+	
+	@Value("${travels.response-cache.enabled:true}")
+	private boolean enabled;
+	
+	@Value("${travels.response-cache.max-entries:256}")
+	private int maxEntries;
+	
+	/**
+	 * Method that registers the response cache filter for the cached end-points.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param travelService
+	 * @return FilterRegistrationBean
+	 */
+	@Bean
+	public FilterRegistrationBean<ResponseCacheFilter> responseCacheFilter(TravelService travelService) {
+		
+		var registration = new FilterRegistrationBean<>(new ResponseCacheFilter(travelService, maxEntries, List.of("window")));
+		registration.addUrlPatterns("/api-travels/travels", "/api-travels/statistics");
+		registration.setEnabled(enabled);
+		return registration;
+	}
+
+}
@@ -1,16 +1,19 @@
 package io.github.mariazevedo88.travelsapi.controller;
 
-import java.util.List;
+import static org.apache.logging.log4j.util.Unbox.box;
 
-import org.apache.log4j.Logger;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import io.github.mariazevedo88.travelsapi.enumeration.TravelTypeEnum;
 import io.github.mariazevedo88.travelsapi.model.Statistic;
-import io.github.mariazevedo88.travelsapi.model.Travel;
 import io.github.mariazevedo88.travelsapi.service.StatisticService;
 import io.github.mariazevedo88.travelsapi.service.TravelService;
 
@@ -24,7 +27,9 @@ import io.github.mariazevedo88.travelsapi.service.TravelService;
 @RequestMapping("/api-travels/statistics")
 public class StatisticController {
 	
-	private static final Logger logger = Logger.getLogger(StatisticController.class);
+	private static final Logger logger = LogManager.getLogger(StatisticController.class);
+	
+	private static final String GROUP_BY_TYPE = "type";
 	
 	@Autowired
 	private TravelService tripsService;
@@ -39,15 +44,50 @@ public class StatisticController {
 	 * @author Mariana Azevedo
 	 * @since 14/09/2019
 	 * 
-	 * @return ResponseEntity - 200
+	 * @param window - if present, only the trips written (created or updated) in the last period 
+	 * are considered, such as 60s, 15m or 24h (the maximum)
+	 * @param groupBy - if <code>type</code>, the statistics of each trip type are also returned
+	 * @param type - if present, only the trips of the type are considered: RETURN, ONE-WAY or MULTI-CITY
+	 * @param startFrom - if present, only the trips starting at or after this date are considered
+	 * @param startTo - if present, only the trips starting before this date are considered
+	 * 
+	 * The filters (type, startFrom and startTo) scan the trips in the store, in parallel and 
+	 * without copying them, while the other statistics are read from running aggregates. The 
+	 * window, the grouping and the filters can't be combined.
+	 * 
+	 * @return ResponseEntity - 200, or 400 if any of the parameters is not valid
 	 */
-	@GetMapping(produces = { "application/json" })
-	public ResponseEntity<Statistic> getStatistics() {
+	@GetMapping(produces = { "application/json", MediaType.APPLICATION_CBOR_VALUE })
+	public ResponseEntity<Statistic> getStatistics(@RequestParam(required = false) String window,
+			@RequestParam(required = false) String groupBy, @RequestParam(required = false) String type,
+			@RequestParam(required = false) String startFrom, @RequestParam(required = false) String startTo) {
+		
+		boolean filtered = type != null || startFrom != null || startTo != null;
+		if((groupBy != null && (!GROUP_BY_TYPE.equals(groupBy) || window != null || filtered)) 
+				|| (window != null && filtered)) {
+			logger.error("Invalid combination of parameters.");
+			return ResponseEntity.badRequest().build();
+		}
 		
-		List<Travel> trips = tripsService.find();
-		Statistic statistics = statisticsService.create(trips);
+		Statistic statistics;
+		try {
+			if(filtered) {
+				statistics = statisticsService.create(tripsService.spliterator(), tripsService.count(), 
+						tripsService.createFilter(type != null ? TravelTypeEnum.getEnum(type) : null, 
+						startFrom != null ? tripsService.parseDate(startFrom) : null, 
+						startTo != null ? tripsService.parseDate(startTo) : null));
+			}else if(window != null) {
+				statistics = statisticsService.createFromAggregate(
+						tripsService.getStatistics(statisticsService.parseWindow(window)));
+			}else {
+				statistics = statisticsService.createFromAggregate(tripsService.getStatistics(), groupBy != null);
+			}
+		}catch(Exception e) {
+			logger.error("Query parameters are not parsable. {}", e.toString());
+			return ResponseEntity.badRequest().build();
+		}
 		
-		logger.info(statistics);
+		logger.info("Statistics of {} travels, sum {}.", box(statistics.getCount()), statistics.getSum());
 		
 		return ResponseEntity.ok(statistics);
 	}
@@ -1,24 +1,59 @@
 package io.github.mariazevedo88.travelsapi.controller;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
-import org.apache.log4j.Logger;
-import org.json.simple.JSONObject;
+import javax.annotation.PostConstruct;
+import javax.servlet.http.HttpServletRequest;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+
+import io.github.mariazevedo88.travelsapi.dto.TravelDTO;
+import io.github.mariazevedo88.travelsapi.enumeration.TravelTypeEnum;
+import io.github.mariazevedo88.travelsapi.metrics.TravelMetrics;
 import io.github.mariazevedo88.travelsapi.model.Travel;
+import io.github.mariazevedo88.travelsapi.model.TravelBatchItem;
+import io.github.mariazevedo88.travelsapi.model.TravelIngestReport;
 import io.github.mariazevedo88.travelsapi.service.TravelService;
 
 /**
@@ -31,34 +66,182 @@ import io.github.mariazevedo88.travelsapi.service.TravelService;
 @RequestMapping("/api-travels/travels")
 public class TravelController {
 	
-	private static final Logger logger = Logger.getLogger(TravelController.class);
+	private static final Logger logger = LogManager.getLogger(TravelController.class);
+	
+	private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+	private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType(APPLICATION_NDJSON_VALUE);
+	
+	private static final List<MediaType> EXPORT_TYPES = List.of(MediaType.APPLICATION_JSON, APPLICATION_NDJSON, 
+			MediaType.APPLICATION_CBOR);
+	
+	private static final int MAX_PAGE_SIZE = 1000;
+	
+	private static final DateTimeFormatter ISO_MILLIS = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSS'Z'");
 	
 	@Autowired
 	private TravelService tripService;
 	
+	@Autowired
+	private ObjectMapper objectMapper;
+	
+	@Autowired
+	private TravelMetrics metrics;
+	
+	@Autowired
+	private MappingJackson2CborHttpMessageConverter cborConverter;
+	
+	private ObjectReader travelReader;
+	
+	@PostConstruct
+	public void init() {
+		travelReader = objectMapper.readerFor(TravelDTO.class);
+	}
+	
 	/**
-	 * Method that list all travels
+	 * Method that list the travels, in pages ordered by id. To get the next page, the id of the
+	 * last travel of the page must be sent in the <code>after</code> parameter, as in the link
+	 * returned in the <code>Link</code> header. The travels active in a period are ordered by 
+	 * start date and id instead, and the next page also needs the start date of the last travel
+	 * in the <code>afterStart</code> parameter.
 	 * 
 	 * @author Mariana Azevedo
 	 * @since 14/09/2019
 	 * 
+	 * @param after - id of the last travel of the previous page, absent for the first page
+	 * @param afterStart - with <code>from</code> and <code>to</code>, start date of the last travel of the previous
+	 * page, sent with <code>after</code>
+	 * @param limit - maximum number of travels in the page, 100 by default and at most 1000
+	 * @param type - only travels of the type: RETURN, ONE-WAY or MULTI-CITY
+	 * @param startFrom - only travels starting at or after this date, in the ISO 8601 format YYYY-MM-DDThh:mm:ss.sssZ
+	 * @param startTo - only travels starting before this date, in the ISO 8601 format YYYY-MM-DDThh:mm:ss.sssZ
+	 * @param from - with <code>to</code>, only travels active at some moment between both dates (inclusive), 
+	 * in the ISO 8601 format YYYY-MM-DDThh:mm:ss.sssZ
+	 * @param to - with <code>from</code>, end of the period of the active travels
+	 * 
 	 * @return ResponseEntity with a <code>List<Travel></code> object and the HTTP status
 	 * 
 	 * HTTP Status:
 	 * 
 	 * 200 - OK: Everything worked as expected.
+	 * 400 - Bad Request: any of the parameters is not parsable, only one of <code>from</code> and <code>to</code> 
+	 * was sent, <code>from</code> is after <code>to</code>, or <code>afterStart</code> was not sent with 
+	 * <code>after</code>, <code>from</code> and <code>to</code>.
 	 * 404 - Not Found: The requested resource doesn't exist.
 	 * 
 	 */
 	@GetMapping
-	public ResponseEntity<List<Travel>> find() {
-		if(tripService.find().isEmpty()) {
+	public ResponseEntity<List<Travel>> find(@RequestParam(required = false) Long after, 
+			@RequestParam(required = false) String afterStart, @RequestParam(defaultValue = "100") int limit, 
+			@RequestParam(required = false) String type,
+			@RequestParam(required = false) String startFrom, @RequestParam(required = false) String startTo,
+			@RequestParam(required = false) String from, @RequestParam(required = false) String to) {
+		
+		int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+		
+		if((from == null) != (to == null)) {
+			logger.error("The query parameters from and to must be sent together.");
+			return ResponseEntity.badRequest().build();
+		}
+		if(afterStart != null ? from == null || after == null : from != null && after != null) {
+			logger.error("The query parameter afterStart must be sent with after, from and to.");
+			return ResponseEntity.badRequest().build();
+		}
+		
+		List<Travel> travels;
+		try {
+			TravelTypeEnum travelType = type != null ? TravelTypeEnum.getEnum(type) : null;
+			LocalDateTime startFromDate = startFrom != null ? tripService.parseDate(startFrom) : null;
+			LocalDateTime startToDate = startTo != null ? tripService.parseDate(startTo) : null;
+			
+			travels = from != null 
+					? tripService.findActive(tripService.parseDate(from), tripService.parseDate(to), 
+							afterStart != null ? tripService.parseDate(afterStart) : null, after, pageSize, 
+							travelType, startFromDate, startToDate)
+					: tripService.find(after, pageSize, travelType, startFromDate, startToDate);
+		}catch(Exception e) {
+			logger.error("Query parameters are not parsable. {}", e.toString());
+			return ResponseEntity.badRequest().build();
+		}
+		
+		if(travels.isEmpty()) {
 			return ResponseEntity.notFound().build(); 
 		}
-		logger.info(tripService.find());
-		return ResponseEntity.ok(tripService.find());
+		if(logger.isDebugEnabled()) {
+			logger.debug("Page with {} travels.", travels.size());
+		}
+		
+		var response = ResponseEntity.ok();
+		if(travels.size() == pageSize) {
+			Travel last = travels.get(travels.size() - 1);
+			var next = ServletUriComponentsBuilder.fromCurrentRequest().replaceQueryParam("after", last.getId());
+			if(from != null) {
+				next.replaceQueryParam("afterStart", ISO_MILLIS.format(last.getStartDate()));
+			}
+			response.header(HttpHeaders.LINK, "<" + next.build().toUri() + ">; rel=\"next\"");
+		}
+		return response.body(travels);
 	}
 	
+	/**
+	 * Method that exports all travels, ordered by id. The travels are written to the response
+	 * as they are read from the store, so the whole list is never held in memory and the first
+	 * bytes are sent right away.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param accept - <code>application/x-ndjson</code> for one travel per line, <code>application/cbor</code>
+	 * for a CBOR array, otherwise a JSON array
+	 * 
+	 * @return ResponseEntity with the stream of travels and the HTTP status
+	 * 
+	 * HTTP Status:
+	 * 
+	 * 200 - OK: Everything worked as expected.
+	 * 
+	 */
+	@GetMapping(path = "/export", produces = { MediaType.APPLICATION_JSON_VALUE, APPLICATION_NDJSON_VALUE, 
+			MediaType.APPLICATION_CBOR_VALUE })
+	public ResponseEntity<StreamingResponseBody> export(
+			@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+		
+		MediaType type = exportType(accept);
+		Iterator<Travel> travels = tripService.iterator();
+		
+		if(MediaType.APPLICATION_CBOR.equals(type)) {
+			return ResponseEntity.ok().contentType(type)
+					.body(out -> writeTravels(out, travels, cborConverter.getObjectMapper(), false));
+		}
+		boolean ndjson = APPLICATION_NDJSON.equals(type);
+		return ResponseEntity.ok().contentType(type)
+				.body(out -> writeTravels(out, travels, objectMapper, ndjson));
+	}
+	
+	/**
+	 * Method that list the travels with an order number. This is the resource pointed by the
+	 * Location header returned when a travel is created.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param orderNumber
+	 * @return ResponseEntity with a <code>List<Travel></code> object and the HTTP status
+	 * 
+	 * HTTP Status:
+	 * 
+	 * 200 - OK: Everything worked as expected.
+	 * 404 - Not Found: The requested resource doesn't exist.
+	 * 
+	 */
+	@GetMapping(path = "/{orderNumber}", produces = { "application/json", MediaType.APPLICATION_CBOR_VALUE })
+	public ResponseEntity<List<Travel>> findByOrderNumber(@PathVariable("orderNumber") String orderNumber) {
+		List<Travel> travels = tripService.findByOrderNumber(orderNumber);
+		if(travels.isEmpty()) {
+			return ResponseEntity.notFound().build();
+		}
+		return ResponseEntity.ok(travels);
+	}
+
 	/**
 	 * Method that deletes all existing travels.
 	 * 
@@ -77,7 +260,7 @@ public class TravelController {
 			tripService.delete();
 			return ResponseEntity.noContent().build();
 		}catch(Exception e) {
-			logger.error(e);
+			logger.error("The travels can't be deleted.", e);
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
 		}
 	}
@@ -110,29 +293,115 @@ public class TravelController {
 	 */
 	@PostMapping
 	@ResponseBody
-	public ResponseEntity<Travel> create(@RequestBody JSONObject trip) {
+	public ResponseEntity<Travel> create(@RequestBody TravelDTO trip) {
 		try {
-			if(tripService.isJSONValid(trip.toString())) {
-				Travel tripCreated = tripService.create(trip);
-				var uri = ServletUriComponentsBuilder.fromCurrentRequest()
-						.path(tripCreated.getOrderNumber()).build().toUri();
-				
-				if(tripService.isStartDateGreaterThanEndDate(tripCreated)){
-					logger.error("The start date is greater than end date.");
-					return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(null);
-				}else {
-					tripService.add(tripCreated);
-					return ResponseEntity.created(uri).body(null);
-				}
+			Travel tripCreated = tripService.create(trip);
+			var uri = ServletUriComponentsBuilder.fromCurrentRequest()
+					.path(tripCreated.getOrderNumber()).build().toUri();
+			
+			if(tripService.isStartDateGreaterThanEndDate(tripCreated)){
+				logger.error("The start date is greater than end date.");
+				metrics.created(HttpStatus.UNPROCESSABLE_ENTITY.value());
+				return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(null);
 			}else {
-				return ResponseEntity.badRequest().body(null);
+				tripService.add(tripCreated);
+				metrics.created(HttpStatus.CREATED.value());
+				return ResponseEntity.created(uri).body(null);
 			}
 		}catch(Exception e) {
-			logger.error("JSON fields are not parsable. " + e);
+			logger.error("JSON fields are not parsable. {}", e.toString());
+			metrics.created(HttpStatus.UNPROCESSABLE_ENTITY.value());
 			return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(null);
 		}
 	}
 	
+	/**
+	 * Method that creates a batch of trips sent as a JSON or CBOR array.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param trips - array of trips, with the same fields of a single trip
+	 * 
+	 * @return ResponseEntity with the result of each trip, in the order they were sent, and the HTTP status
+	 * 
+	 * HTTP Status:
+	 * 
+	 * 200 - OK: the batch was processed. Each trip has its own status: 201, 400 or 422, 
+	 * with the same meaning of the single trip creation.
+	 * 400 - Bad Request: the body is not an array of objects.
+	 * 500 - Server Errors: something went wrong on API end (These are rare).
+	 */
+	@PostMapping(path = "/batch", consumes = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE }, 
+			produces = { "application/json", MediaType.APPLICATION_CBOR_VALUE })
+	public ResponseEntity<List<TravelBatchItem>> createBatch(@RequestBody List<TravelDTO> trips) {
+		return ResponseEntity.ok(tripService.addAll(trips));
+	}
+	
+	/**
+	 * Method that creates a batch of trips sent as NDJSON, one trip per line. A line that is not
+	 * a valid JSON object only fails that trip, with the status 400.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param body - NDJSON stream of trips, with the same fields of a single trip
+	 * 
+	 * @return ResponseEntity with the result of each trip, in the order they were sent, and the HTTP status
+	 * 
+	 * HTTP Status:
+	 * 
+	 * 200 - OK: the batch was processed. Each trip has its own status: 201, 400 or 422, 
+	 * with the same meaning of the single trip creation.
+	 * 500 - Server Errors: something went wrong on API end (These are rare).
+	 */
+	@PostMapping(path = "/batch", consumes = { APPLICATION_NDJSON_VALUE }, produces = { "application/json" })
+	public ResponseEntity<List<TravelBatchItem>> createBatchFromNdjson(InputStream body) throws IOException {
+		
+		List<TravelDTO> trips = new ArrayList<>();
+		var reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+		
+		for(String line = reader.readLine(); line != null; line = reader.readLine()) {
+			if(line.isBlank()) continue;
+			try {
+				trips.add(travelReader.readValue(line));
+			}catch(IOException e) {
+				logger.error("Invalid JSON in batch. {}", e.toString());
+				trips.add(null);
+			}
+		}
+		
+		return ResponseEntity.ok(tripService.addAll(trips));
+	}
+	
+	/**
+	 * Method that ingests a stream of trips, sent as NDJSON or as a JSON array. The body is read
+	 * as a stream and each trip is added as soon as it is read, so the body is never held in memory.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param body - stream of trips, with the same fields of a single trip
+	 * 
+	 * @return ResponseEntity with the number of trips accepted and rejected, the reasons of the 
+	 * first rejections and the HTTP status
+	 * 
+	 * HTTP Status:
+	 * 
+	 * 200 - OK: the stream was processed, even if some trips were rejected.
+	 * 500 - Server Errors: something went wrong on API end (These are rare).
+	 */
+	@PostMapping(path = "/stream", consumes = { APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE }, 
+			produces = { "application/json" })
+	public ResponseEntity<TravelIngestReport> ingest(InputStream body) throws IOException {
+		
+		try(JsonParser parser = objectMapper.getFactory().createParser(body)) {
+			TravelIngestReport report = tripService.addAll(parser);
+			logger.info("Stream ingested: {} accepted, {} rejected.", report.getAccepted(), report.getRejected());
+			return ResponseEntity.ok(report);
+		}
+	}
+	
 	/**
 	 * Method that updates a trip.
 	 * 
@@ -156,24 +425,109 @@ public class TravelController {
 	 * 422 - Unprocessable Entity: if any of the fields are not parsable or the initial date is greater than final date.
 	 * 500 - Server Errors: something went wrong on API end (These are rare).
 	 */
-	@PutMapping(path = "/{id}", produces = { "application/json" })
-	public ResponseEntity<Travel> update(@PathVariable("id") long id, @RequestBody JSONObject travel) {
+	@PutMapping(path = "/{id}", produces = { "application/json", MediaType.APPLICATION_CBOR_VALUE })
+	public ResponseEntity<Travel> update(@PathVariable("id") long id, @RequestBody TravelDTO travel) {
 		try {
-			if(tripService.isJSONValid(travel.toString())) {
-				Travel tripToUpdate = tripService.findById(id);
-				if(tripToUpdate == null){
-					logger.error("Travel not found.");
-					return ResponseEntity.notFound().build(); 
-				}else {
-					Travel tripUpdated = tripService.update(tripToUpdate, travel);
-					return ResponseEntity.ok(tripUpdated);
-				}
+			Travel tripToUpdate = tripService.findById(id);
+			Travel tripUpdated = tripToUpdate != null ? tripService.update(tripToUpdate, travel) : null;
+			if(tripUpdated == null){
+				logger.error("Travel not found.");
+				return ResponseEntity.notFound().build(); 
 			}else {
-				return ResponseEntity.badRequest().body(null);
+				return ResponseEntity.ok(tripUpdated);
 			}
 		}catch(Exception e) {
-			logger.error("JSON fields are not parsable." + e);
+			logger.error("JSON fields are not parsable. {}", e.toString());
 			return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(null);
 		}
 	}
+	
+	/**
+	 * Method that handles a request body that could not be bound to a trip. A JSON syntax error
+	 * is a bad request, while a field with an unexpected type (e.g. a text id) is not parsable.
+	 * The requests that create trips are counted in the metrics by their status.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param e
+	 * @param request
+	 * @return ResponseEntity with an empty body and the HTTP status 400 or 422
+	 */
+	@ExceptionHandler(HttpMessageNotReadableException.class)
+	public ResponseEntity<Void> handleNotReadable(HttpMessageNotReadableException e, HttpServletRequest request) {
+		
+		HttpStatus status;
+		if(e.getCause() instanceof InvalidFormatException) {
+			logger.error("JSON fields are not parsable. {}", e.getCause().getMessage());
+			metrics.parseFailure((InvalidFormatException) e.getCause());
+			status = HttpStatus.UNPROCESSABLE_ENTITY;
+		}else {
+			logger.error("Invalid JSON. {}", e.getMessage());
+			status = HttpStatus.BAD_REQUEST;
+		}
+		
+		if(HttpMethod.POST.matches(request.getMethod())) {
+			metrics.created(status.value());
+		}
+		return ResponseEntity.status(status).build();
+	}
+	
+	/**
+	 * Method that chooses the format of the export: the first of the formats of the
+	 * <code>Accept</code> header, by specificity and quality, that is exported, or JSON.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param accept
+	 * @return MediaType
+	 */
+	private static MediaType exportType(String accept) {
+		
+		if(accept != null) {
+			List<MediaType> accepted = MediaType.parseMediaTypes(accept);
+			MediaType.sortBySpecificityAndQuality(accepted);
+			for(MediaType type : accepted) {
+				for(MediaType exported : EXPORT_TYPES) {
+					if(type.includes(exported)) return exported;
+				}
+			}
+		}
+		return MediaType.APPLICATION_JSON;
+	}
+	
+	/**
+	 * Method that writes travels to a stream, as NDJSON or as an array in the format of the mapper.
+	 * The stream is flushed after the first travel, so the client starts receiving data right away.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param out
+	 * @param travels
+	 * @param mapper - mapper of the format, JSON or CBOR
+	 * @param ndjson
+	 * @throws IOException
+	 */
+	private void writeTravels(OutputStream out, Iterator<Travel> travels, ObjectMapper mapper, boolean ndjson) 
+			throws IOException {
+		
+		ObjectWriter writer = mapper.writerFor(Travel.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+		
+		try(JsonGenerator generator = mapper.getFactory().createGenerator(out)) {
+			
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			if(ndjson) generator.setRootValueSeparator(null);
+			if(!ndjson) generator.writeStartArray();
+			
+			for(boolean first = true; travels.hasNext(); first = false) {
+				writer.writeValue(generator, travels.next());
+				if(ndjson) generator.writeRaw('\n');
+				if(first) generator.flush();
+			}
+			
+			if(!ndjson) generator.writeEndArray();
+		}
+	}
 }
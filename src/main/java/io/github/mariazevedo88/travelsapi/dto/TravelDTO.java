@@ -0,0 +1,32 @@
+package io.github.mariazevedo88.travelsapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Class that implements the body of the requests that create or update a travel, bound by
+ * Jackson in a single pass. The amount, the dates and the type are kept as sent, and parsed
+ * by the <code>TravelService</code>, so a value that is not parsable is reported as such.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class TravelDTO {
+	
+	private Long id;
+	private String orderNumber;
+	private String amount;
+	private String startDate;
+	private String endDate;
+	private String type;
+
+}
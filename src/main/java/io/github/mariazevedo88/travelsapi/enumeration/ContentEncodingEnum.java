@@ -0,0 +1,47 @@
+package io.github.mariazevedo88.travelsapi.enumeration;
+
+/**
+ * Enum that classifies the content encodings of the compressed responses, in the order of
+ * preference when the client accepts more than one with the same quality.
+ * 
+ * ZSTD - Zstandard, faster than gzip and with a better ratio at the same level;
+ * GZIP - gzip, accepted by every client.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public enum ContentEncodingEnum {
+	
+	ZSTD("zstd"), GZIP("gzip");
+	
+	private String value;
+	
+	private ContentEncodingEnum(String value) {
+		this.value = value;
+	}
+	
+	public String getValue() {
+		return value;
+	}
+	
+	/**
+	 * Method that returns the value in the Enum.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param value
+	 * @return a ContentEncodingEnum
+	 */
+	public static ContentEncodingEnum getEnum(String value) {
+		
+		for(ContentEncodingEnum c : values()) {
+			if(value.equalsIgnoreCase(c.getValue())) {
+				return c;
+			}
+		}
+		
+		throw new RuntimeException("Content encoding not found.");
+	}
+
+}
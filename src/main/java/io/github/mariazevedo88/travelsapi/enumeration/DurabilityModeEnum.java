@@ -0,0 +1,50 @@
+package io.github.mariazevedo88.travelsapi.enumeration;
+
+/**
+ * Enum that classifies when the writes in the write-ahead log are durable.
+ * 
+ * PER_REQUEST - a write only returns after the log is forced to disk, together with the 
+ * other writes that arrived during the previous force (group commit);
+ * INTERVAL - the log is forced to disk every interval, so the writes of the last interval
+ * may be lost if the OS crashes;
+ * OS_BUFFERED - the log is written to the OS, that decides when to write it to disk, so the 
+ * writes only survive a crash of the process.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public enum DurabilityModeEnum {
+	
+	PER_REQUEST("per-request"), INTERVAL("interval"), OS_BUFFERED("os-buffered");
+	
+	private String value;
+	
+	private DurabilityModeEnum(String value) {
+		this.value = value;
+	}
+
+	public String getValue() {
+		return value;
+	}
+	
+	/**
+	 * Method that returns the value in the Enum.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param value
+	 * @return a DurabilityModeEnum
+	 */
+	public static DurabilityModeEnum getEnum(String value) {
+		
+		for(DurabilityModeEnum d : values()) {
+			if(value.equals(d.getValue())) {
+				return d;
+			}
+		}
+		
+		throw new RuntimeException("Durability mode not found.");
+	}
+
+}
@@ -0,0 +1,48 @@
+package io.github.mariazevedo88.travelsapi.enumeration;
+
+/**
+ * Enum that classifies how the requests to the travels API are executed.
+ * 
+ * THREAD_PER_REQUEST - each request is executed by a thread of the server's pool, that is 
+ * held until the response is written;
+ * ASYNC - the server's thread only accepts the request and returns to the pool, while the 
+ * request is executed by a fixed pool sized by the number of processors, with a bounded queue.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public enum ExecutionModeEnum {
+	
+	THREAD_PER_REQUEST("thread-per-request"), ASYNC("async");
+	
+	private String value;
+	
+	private ExecutionModeEnum(String value) {
+		this.value = value;
+	}
+
+	public String getValue() {
+		return value;
+	}
+	
+	/**
+	 * Method that returns the value in the Enum.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param value
+	 * @return a ExecutionModeEnum
+	 */
+	public static ExecutionModeEnum getEnum(String value) {
+		
+		for(ExecutionModeEnum e : values()) {
+			if(value.equals(e.getValue())) {
+				return e;
+			}
+		}
+		
+		throw new RuntimeException("Execution mode not found.");
+	}
+
+}
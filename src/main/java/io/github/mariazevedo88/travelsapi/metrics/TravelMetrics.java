@@ -0,0 +1,122 @@
+package io.github.mariazevedo88.travelsapi.metrics;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonMappingException.Reference;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Class that keeps the application metrics of the travels, registered in the Micrometer
+ * registry exposed by the actuator:
+ * 
+ * travels.created - travels received for creation, by the status of their result (201, 400 or 422), 
+ * counting each travel of the batches and streams;
+ * travels.parse.failures - fields that could not be parsed, by field;
+ * travels.statistics.create - time to compute the statistics by scanning the travels.
+ * 
+ * The counters of the known statuses are created once, so counting doesn't look up the registry.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+@Component
+public class TravelMetrics {
+	
+	public static final String CREATED = "travels.created";
+	public static final String PARSE_FAILURES = "travels.parse.failures";
+	public static final String STATISTICS_CREATE = "travels.statistics.create";
+	
+	private final MeterRegistry registry;
+	
+	private final Counter created;
+	private final Counter badRequest;
+	private final Counter unprocessable;
+	
+	private final Timer statisticsTimer;
+	
+	public TravelMetrics(MeterRegistry registry) {
+		
+		this.registry = registry;
+		this.created = createdCounter(201);
+		this.badRequest = createdCounter(400);
+		this.unprocessable = createdCounter(422);
+		this.statisticsTimer = Timer.builder(STATISTICS_CREATE)
+				.description("Time to compute the statistics by scanning the travels")
+				.publishPercentiles(0.5, 0.99, 0.999)
+				.publishPercentileHistogram()
+				.register(registry);
+	}
+	
+	/**
+	 * Method that counts a travel received for creation.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param status - HTTP status of the result of the travel
+	 */
+	public void created(int status) {
+		switch(status) {
+			case 201: created.increment(); break;
+			case 400: badRequest.increment(); break;
+			case 422: unprocessable.increment(); break;
+			default: createdCounter(status).increment();
+		}
+	}
+	
+	/**
+	 * Method that counts a field that could not be parsed.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param field - name of the field, as sent in the JSON
+	 */
+	public void parseFailure(String field) {
+		registry.counter(PARSE_FAILURES, "field", field).increment();
+	}
+	
+	/**
+	 * Method that counts a field that Jackson could not bind, such as a text id. The field is
+	 * the last one in the path of the error.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param e
+	 */
+	public void parseFailure(JsonMappingException e) {
+		List<Reference> path = e.getPath();
+		String field = path.isEmpty() ? null : path.get(path.size() - 1).getFieldName();
+		parseFailure(field != null ? field : "unknown");
+	}
+	
+	/**
+	 * Method that times the computation of statistics.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param <T>
+	 * @param statistics
+	 * @return T - the statistics computed
+	 */
+	public <T> T timeStatistics(Supplier<T> statistics) {
+		return statisticsTimer.record(statistics);
+	}
+	
+	private Counter createdCounter(int status) {
+		return Counter.builder(CREATED)
+				.description("Travels received for creation, by the status of their result")
+				.tag("status", String.valueOf(status))
+				.register(registry);
+	}
+
+}
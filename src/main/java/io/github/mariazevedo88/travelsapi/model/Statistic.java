@@ -1,7 +1,12 @@
 package io.github.mariazevedo88.travelsapi.model;
 
 import java.math.BigDecimal;
+import java.util.Map;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import io.github.mariazevedo88.travelsapi.enumeration.TravelTypeEnum;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -24,5 +29,8 @@ public class Statistic {
 	private BigDecimal max;
 	private BigDecimal min;
 	private long count;
+	
+	@JsonInclude(Include.NON_NULL)
+	private Map<TravelTypeEnum, Statistic> byType;
 
 }
@@ -0,0 +1,29 @@
+package io.github.mariazevedo88.travelsapi.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Class that implements the result of each travel sent in a batch.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(Include.NON_NULL)
+public class TravelBatchItem {
+	
+	private long index;
+	private int status;
+	private Long id;
+	private String error;
+
+}
@@ -0,0 +1,31 @@
+package io.github.mariazevedo88.travelsapi.model;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Class that implements the report of a stream of travels ingested.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TravelIngestReport {
+	
+	private long accepted;
+	private long rejected;
+	
+	/*
+	 * Reasons of the first rejected records only, so the report size doesn't depend on
+	 * the size of the stream.
+	 */
+	private List<TravelBatchItem> errors;
+
+}
@@ -0,0 +1,129 @@
+package io.github.mariazevedo88.travelsapi.parser;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Class that parses the amount and the dates of the travels. The formats sent by the clients, 
+ * <code>YYYY-MM-DDThh:mm:ss.sssZ</code> dates and plain decimal amounts with up to 18 digits, 
+ * are parsed directly from the characters, without intermediate objects. Anything else falls 
+ * back to the general parsers, <code>ZonedDateTime.parse</code> with the ISO instant format and 
+ * <code>new BigDecimal(String)</code>, so the accepted values and the errors are the same.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public final class TravelFieldParser {
+	
+	private static final DateTimeFormatter ISO_INSTANT_UTC = DateTimeFormatter.ISO_INSTANT.withZone(ZoneId.of("UTC"));
+	
+	private static final int DATE_LENGTH = "YYYY-MM-DDThh:mm:ss.sssZ".length();
+	private static final int MAX_LONG_DIGITS = 18;
+	
+	private TravelFieldParser() {
+	}
+	
+	/**
+	 * Method to parse a date in the ISO 8601 format YYYY-MM-DDThh:mm:ss.sssZ, in UTC.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param date
+	 * @return LocalDateTime
+	 * @throws java.time.format.DateTimeParseException if the date is not parsable
+	 */
+	public static LocalDateTime parseDate(String date) {
+		
+		if(date.length() == DATE_LENGTH && date.charAt(4) == '-' && date.charAt(7) == '-' && date.charAt(10) == 'T' 
+				&& date.charAt(13) == ':' && date.charAt(16) == ':' && date.charAt(19) == '.' && date.charAt(23) == 'Z') {
+			
+			int year = digits(date, 0, 4);
+			int month = digits(date, 5, 2);
+			int day = digits(date, 8, 2);
+			int hour = digits(date, 11, 2);
+			int minute = digits(date, 14, 2);
+			int second = digits(date, 17, 2);
+			int millis = digits(date, 20, 3);
+			
+			if(year >= 0 && month >= 1 && month <= 12 && day >= 1 && day <= lengthOfMonth(year, month) 
+					&& hour >= 0 && hour <= 23 && minute >= 0 && minute <= 59 && second >= 0 && second <= 59 && millis >= 0) {
+				return LocalDateTime.of(year, month, day, hour, minute, second, millis * 1_000_000);
+			}
+		}
+		
+		return ZonedDateTime.parse(date, ISO_INSTANT_UTC).toLocalDateTime();
+	}
+	
+	/**
+	 * Method to parse an amount, a string of arbitrary length that is parsable as a BigDecimal.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param amount
+	 * @return BigDecimal
+	 * @throws NumberFormatException if the amount is not parsable
+	 */
+	public static BigDecimal parseAmount(String amount) {
+		
+		int length = amount.length();
+		int i = 0;
+		boolean negative = false;
+		
+		if(length > 0 && (amount.charAt(0) == '-' || amount.charAt(0) == '+')) {
+			negative = amount.charAt(0) == '-';
+			i++;
+		}
+		
+		long unscaled = 0;
+		int digits = 0;
+		int scale = -1;
+		
+		for(; i < length; i++) {
+			char c = amount.charAt(i);
+			if(c >= '0' && c <= '9') {
+				unscaled = unscaled * 10 + (c - '0');
+				digits++;
+				if(scale >= 0) scale++;
+			}else if(c == '.' && scale < 0) {
+				scale = 0;
+			}else {
+				digits = -1;
+				break;
+			}
+		}
+		
+		if(digits > 0 && digits <= MAX_LONG_DIGITS) {
+			return BigDecimal.valueOf(negative ? -unscaled : unscaled, Math.max(scale, 0));
+		}
+		
+		return new BigDecimal(amount);
+	}
+	
+	/**
+	 * @return the value of the decimal digits, or -1 if any of the characters is not a digit
+	 */
+	private static int digits(String text, int start, int count) {
+		
+		int value = 0;
+		for(int i = start; i < start + count; i++) {
+			char c = text.charAt(i);
+			if(c < '0' || c > '9') return -1;
+			value = value * 10 + (c - '0');
+		}
+		return value;
+	}
+	
+	private static int lengthOfMonth(int year, int month) {
+		switch(month) {
+			case 2: return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+			case 4: case 6: case 9: case 11: return 30;
+			default: return 31;
+		}
+	}
+
+}
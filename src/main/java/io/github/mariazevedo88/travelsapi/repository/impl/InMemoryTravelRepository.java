@@ -0,0 +1,466 @@
+package io.github.mariazevedo88.travelsapi.repository.impl;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import io.github.mariazevedo88.travelsapi.aggregator.StatisticAggregator;
+import io.github.mariazevedo88.travelsapi.enumeration.TravelTypeEnum;
+import io.github.mariazevedo88.travelsapi.model.Statistic;
+import io.github.mariazevedo88.travelsapi.model.Travel;
+import io.github.mariazevedo88.travelsapi.repository.TravelRepository;
+import io.github.mariazevedo88.travelsapi.repository.index.IntervalIndex;
+import io.github.mariazevedo88.travelsapi.repository.index.LongHashMap;
+
+/**
+ * In-memory, thread-safe implementation of the <code>TravelRepository</code>. 
+ * 
+ * The travels are partitioned by id in lock stripes, each one with its own primitive 
+ * <code>long</code> hash index and statistics aggregate, so writers of different stripes 
+ * don't contend. Snapshot reads (<code>findAll</code> and <code>statistics</code>) hold the 
+ * read lock of every stripe at once, so they always see a consistent state of the store.
+ * The order number index and the ordered id index, used for pagination, are concurrent maps, 
+ * only modified while holding the stripe lock of the travel being indexed. Each stripe also
+ * has its own interval index of the travel periods, so a page of active travels reads the 
+ * next travels of each stripe, one stripe at a time, and merges them by start date and id:
+ * O(stripes * (log n + limit)) per page.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public class InMemoryTravelRepository implements TravelRepository {
+	
+	private static final int DEFAULT_STRIPES = 64;
+	
+	private final Stripe[] stripes;
+	private final int stripeShift;
+	
+	private final ConcurrentHashMap<String, List<Travel>> travelsByOrderNumber = new ConcurrentHashMap<>();
+	
+	private final ConcurrentSkipListMap<Long, Travel> travelsOrderedById = new ConcurrentSkipListMap<>();
+	
+	public InMemoryTravelRepository() {
+		this(DEFAULT_STRIPES);
+	}
+	
+	/**
+	 * @param stripes number of lock stripes, rounded up to a power of two
+	 */
+	public InMemoryTravelRepository(int stripes) {
+		
+		int bits = 32 - Integer.numberOfLeadingZeros(Math.max(stripes, 2) - 1);
+		this.stripes = new Stripe[1 << bits];
+		this.stripeShift = 64 - bits;
+		
+		for(int i = 0; i < this.stripes.length; i++) {
+			this.stripes[i] = new Stripe();
+		}
+	}
+
+	@Override
+	public Travel save(Travel travel) {
+		
+		Stripe stripe = stripeFor(travel.getId());
+		stripe.lock.writeLock().lock();
+		try {
+			return saveLocked(stripe, travel);
+		}finally {
+			stripe.lock.writeLock().unlock();
+		}
+	}
+	
+	@Override
+	public void saveAll(Collection<Travel> travels) {
+		
+		lockAllForWrite();
+		try {
+			for(Travel travel : travels) {
+				saveLocked(stripeFor(travel.getId()), travel);
+			}
+		}finally {
+			unlockAllForWrite();
+		}
+	}
+
+	@Override
+	public Travel computeIfPresent(long id, UnaryOperator<Travel> remapping) {
+		
+		Stripe stripe = stripeFor(id);
+		stripe.lock.writeLock().lock();
+		try {
+			Travel travel = stripe.travels.get(id);
+			if(travel == null) return null;
+			
+			Travel travelUpdated = remapping.apply(travel);
+			if(travelUpdated.getId() == null || travelUpdated.getId() != id) {
+				throw new IllegalArgumentException("The travel updated must have the id " + id + ".");
+			}
+			saveLocked(stripe, travelUpdated);
+			return travelUpdated;
+		}finally {
+			stripe.lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public Travel findById(long id) {
+		
+		Stripe stripe = stripeFor(id);
+		stripe.lock.readLock().lock();
+		try {
+			return stripe.travels.get(id);
+		}finally {
+			stripe.lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public List<Travel> findByOrderNumber(String orderNumber) {
+		return travelsByOrderNumber.getOrDefault(orderNumber, Collections.emptyList());
+	}
+
+	@Override
+	public List<Travel> findAll() {
+		
+		lockAllForRead();
+		try {
+			return new ArrayList<>(travelsOrderedById.values());
+		}finally {
+			unlockAllForRead();
+		}
+	}
+
+	@Override
+	public List<Travel> findPage(Long after, int limit, Predicate<Travel> filter) {
+		
+		var travels = after != null ? travelsOrderedById.tailMap(after, false).values() : travelsOrderedById.values();
+		List<Travel> page = new ArrayList<>(Math.min(limit, 1024));
+		
+		for(Travel travel : travels) {
+			if(page.size() == limit) break;
+			if(filter.test(travel)) page.add(travel);
+		}
+		
+		return page;
+	}
+
+	/**
+	 * Reads the next <code>limit</code> active travels of each stripe, with the travels read
+	 * under the same lock as the index, and keeps the first <code>limit</code> of them.
+	 */
+	@Override
+	public List<Travel> findActive(LocalDateTime from, LocalDateTime to, LocalDateTime afterStart, Long after, int limit) {
+		
+		long start = toEpochMilli(from);
+		long end = toEpochMilli(to);
+		long cursorStart = afterStart != null ? toEpochMilli(afterStart) : Long.MIN_VALUE;
+		long cursorId = after != null ? after : Long.MIN_VALUE;
+		
+		ActivePage page = new ActivePage(limit);
+		ActivePage stripePage = new ActivePage(limit);
+		ActivePage merged = new ActivePage(limit);
+		
+		for(Stripe stripe : stripes) {
+			stripe.lock.readLock().lock();
+			try {
+				stripePage.size = stripe.periods.findOverlapping(start, end, cursorStart, cursorId, 
+						stripePage.starts, stripePage.ids);
+				for(int i = 0; i < stripePage.size; i++) {
+					stripePage.travels[i] = stripe.travels.get(stripePage.ids[i]);
+				}
+			}finally {
+				stripe.lock.readLock().unlock();
+			}
+			
+			merged.merge(page, stripePage);
+			ActivePage previous = page;
+			page = merged;
+			merged = previous;
+		}
+		
+		return Arrays.asList(page.travels).subList(0, page.size);
+	}
+
+	@Override
+	public Iterator<Travel> iterator() {
+		return Collections.unmodifiableCollection(travelsOrderedById.values()).iterator();
+	}
+	
+	@Override
+	public Spliterator<Travel> spliterator() {
+		return Collections.unmodifiableCollection(travelsOrderedById.values()).spliterator();
+	}
+
+	@Override
+	public long count() {
+		
+		lockAllForRead();
+		try {
+			return countLocked();
+		}finally {
+			unlockAllForRead();
+		}
+	}
+	
+	@Override
+	public Statistic statistics() {
+		
+		lockAllForRead();
+		try {
+			Statistic statistic = stripes[0].statistics.toStatistic();
+			Map<TravelTypeEnum, Statistic> byType = new EnumMap<>(TravelTypeEnum.class);
+			for(TravelTypeEnum type : TravelTypeEnum.values()) {
+				byType.put(type, stripes[0].statisticsByType[type.ordinal()].toStatistic());
+			}
+			
+			for(int i = 1; i < stripes.length; i++) {
+				statistic = StatisticAggregator.merge(statistic, stripes[i].statistics.toStatistic());
+				for(TravelTypeEnum type : TravelTypeEnum.values()) {
+					byType.put(type, StatisticAggregator.merge(byType.get(type), 
+							stripes[i].statisticsByType[type.ordinal()].toStatistic()));
+				}
+			}
+			
+			statistic.setByType(byType);
+			return statistic;
+		}finally {
+			unlockAllForRead();
+		}
+	}
+
+	@Override
+	public void deleteAll() {
+		
+		lockAllForWrite();
+		try {
+			for(Stripe stripe : stripes) {
+				stripe.travels.clear();
+				stripe.periods.clear();
+				stripe.statistics.clear();
+				for(StatisticAggregator statistics : stripe.statisticsByType) {
+					statistics.clear();
+				}
+			}
+			travelsByOrderNumber.clear();
+			travelsOrderedById.clear();
+		}finally {
+			unlockAllForWrite();
+		}
+	}
+	
+	/**
+	 * Method that stores a travel, updating the indexes and the statistics of the stripe. 
+	 * The caller must hold the write lock of the stripe.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param stripe
+	 * @param travel
+	 * @return the travel replaced, or null if there was none
+	 */
+	private Travel saveLocked(Stripe stripe, Travel travel) {
+		
+		Travel previous = stripe.travels.put(travel.getId(), travel);
+		
+		if(previous != null) {
+			unindexOrderNumber(previous);
+		}
+		indexOrderNumber(travel);
+		indexPeriod(stripe.periods, previous, travel);
+		travelsOrderedById.put(travel.getId(), travel);
+		stripe.statistics.replace(previous != null ? previous.getAmount() : null, travel.getAmount());
+		
+		if(previous != null && previous.getType() != null) {
+			stripe.statisticsByType[previous.getType().ordinal()].remove(previous.getAmount());
+		}
+		if(travel.getType() != null) {
+			stripe.statisticsByType[travel.getType().ordinal()].add(travel.getAmount());
+		}
+		
+		return previous;
+	}
+	
+	private Stripe stripeFor(long id) {
+		return stripes[(int) ((id * 0x9E3779B97F4A7C15L) >>> stripeShift)];
+	}
+	
+	private int countLocked() {
+		int count = 0;
+		for(Stripe stripe : stripes) {
+			count += stripe.travels.size();
+		}
+		return count;
+	}
+	
+	/*
+	 * The stripes are always locked in the same order, so snapshot readers and bulk writers
+	 * can't deadlock with each other. Single writers only hold one stripe.
+	 */
+	private void lockAllForRead() {
+		for(Stripe stripe : stripes) {
+			stripe.lock.readLock().lock();
+		}
+	}
+	
+	private void unlockAllForRead() {
+		for(int i = stripes.length - 1; i >= 0; i--) {
+			stripes[i].lock.readLock().unlock();
+		}
+	}
+	
+	private void lockAllForWrite() {
+		for(Stripe stripe : stripes) {
+			stripe.lock.writeLock().lock();
+		}
+	}
+	
+	private void unlockAllForWrite() {
+		for(int i = stripes.length - 1; i >= 0; i--) {
+			stripes[i].lock.writeLock().unlock();
+		}
+	}
+	
+	/**
+	 * Method that adds a travel to the order number index. The lists in the index are 
+	 * copied on write, so they can be returned to readers without locking.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param travel
+	 */
+	private void indexOrderNumber(Travel travel) {
+		
+		if(travel.getOrderNumber() == null) return;
+		
+		travelsByOrderNumber.compute(travel.getOrderNumber(), (orderNumber, travels) -> {
+			List<Travel> indexed = new ArrayList<>(travels != null ? travels.size() + 1 : 1);
+			if(travels != null) indexed.addAll(travels);
+			indexed.add(travel);
+			return Collections.unmodifiableList(indexed);
+		});
+	}
+	
+	/**
+	 * Method that removes a travel from the order number index.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param travel
+	 */
+	private void unindexOrderNumber(Travel travel) {
+		
+		if(travel.getOrderNumber() == null) return;
+		
+		travelsByOrderNumber.computeIfPresent(travel.getOrderNumber(), (orderNumber, travels) -> {
+			List<Travel> indexed = new ArrayList<>(travels);
+			indexed.remove(travel);
+			return indexed.isEmpty() ? null : Collections.unmodifiableList(indexed);
+		});
+	}
+	
+	/**
+	 * Method that replaces the period of the previous travel by the period of the travel in 
+	 * the interval index of the stripe. Travels without start date are not indexed, and one 
+	 * way travels (without end date) are indexed as a single moment. The caller must hold 
+	 * the write lock of the stripe.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param periods
+	 * @param previous
+	 * @param travel
+	 */
+	private static void indexPeriod(IntervalIndex periods, Travel previous, Travel travel) {
+		
+		if(previous != null && previous.getStartDate() != null) {
+			periods.remove(toEpochMilli(previous.getStartDate()), previous.getId());
+		}
+		if(travel.getStartDate() != null) {
+			long start = toEpochMilli(travel.getStartDate());
+			long end = travel.getEndDate() != null ? toEpochMilli(travel.getEndDate()) : start;
+			periods.add(start, end, travel.getId());
+		}
+	}
+	
+	private static long toEpochMilli(LocalDateTime date) {
+		return date.toInstant(ZoneOffset.UTC).toEpochMilli();
+	}
+	
+	/**
+	 * Class that holds a partition of the travels and the index of their periods, guarded by 
+	 * its own lock. Besides the total, the statistics are aggregated by travel type, indexed 
+	 * by the type ordinal.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 */
+	private static final class Stripe {
+		
+		private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+		private final LongHashMap<Travel> travels = new LongHashMap<>();
+		private final IntervalIndex periods = new IntervalIndex();
+		private final StatisticAggregator statistics = new StatisticAggregator();
+		private final StatisticAggregator[] statisticsByType = new StatisticAggregator[TravelTypeEnum.values().length];
+		
+		private Stripe() {
+			for(int i = 0; i < statisticsByType.length; i++) {
+				statisticsByType[i] = new StatisticAggregator();
+			}
+		}
+	}
+	
+	/**
+	 * Class that holds a page of active travels, with their start and id in the interval 
+	 * index, ordered by both.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 */
+	private static final class ActivePage {
+		
+		private final long[] starts;
+		private final long[] ids;
+		private final Travel[] travels;
+		private int size;
+		
+		private ActivePage(int capacity) {
+			starts = new long[capacity];
+			ids = new long[capacity];
+			travels = new Travel[capacity];
+		}
+		
+		/*
+		 * Replaces this page by the first travels of both pages, up to its capacity.
+		 */
+		private void merge(ActivePage first, ActivePage second) {
+			int i = 0, j = 0;
+			for(size = 0; size < travels.length && (i < first.size || j < second.size); size++) {
+				boolean fromFirst = j == second.size || (i < first.size && (first.starts[i] < second.starts[j]
+						|| (first.starts[i] == second.starts[j] && first.ids[i] < second.ids[j])));
+				ActivePage source = fromFirst ? first : second;
+				int k = fromFirst ? i++ : j++;
+				starts[size] = source.starts[k];
+				ids[size] = source.ids[k];
+				travels[size] = source.travels[k];
+			}
+		}
+	}
+
+}
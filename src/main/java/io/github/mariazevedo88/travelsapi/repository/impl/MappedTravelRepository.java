@@ -0,0 +1,323 @@
+package io.github.mariazevedo88.travelsapi.repository.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.github.mariazevedo88.travelsapi.aggregator.StatisticAggregator;
+import io.github.mariazevedo88.travelsapi.enumeration.TravelTypeEnum;
+import io.github.mariazevedo88.travelsapi.model.Travel;
+
+/**
+ * Implementation of the <code>TravelRepository</code> that persists the travels as fixed-width 
+ * records in a memory-mapped file, so the travels survive a restart. 
+ * 
+ * The file has a header, with the number of records, followed by the records:
+ * 
+ * 0 - id (long);
+ * 8 - unscaled amount (long);
+ * 16 - startDate, epoch milliseconds UTC (long);
+ * 24 - endDate, epoch milliseconds UTC (long);
+ * 32 - scale of the amount (byte);
+ * 33 - type ordinal (byte);
+ * 34 - length of the order number in UTF-8 (byte);
+ * 36 - order number in UTF-8, up to 60 bytes.
+ * 
+ * The records are read directly from the mapped file, so only the indexes and the statistics 
+ * are kept in the heap. When the store is opened, the existing records are scanned once to 
+ * rebuild them, reading the fields as primitives: the order numbers are hashed and compared
+ * as the UTF-8 bytes of the records, and the amounts are added to the statistics as unscaled
+ * values. The <code>String</code> of an order number and the <code>BigDecimal</code> of an 
+ * amount are only created when a <code>Travel</code> is read, or for an order number with 
+ * other than ASCII characters. The scan is proportional to the number of records.
+ * 
+ * The writes go to the OS page cache, so they survive a crash of the process, and are forced 
+ * to disk when the store is closed. There is no other durability guarantee: the writes since
+ * the store was opened may be lost in a crash of the OS, and the write-ahead log can't be 
+ * combined with this store.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public class MappedTravelRepository extends AbstractRowTravelRepository {
+	
+	public static final int RECORD_SIZE = 96;
+	public static final int MAX_ORDER_NUMBER_BYTES = 60;
+	
+	private static final int MAGIC = 0x54524156;
+	private static final int VERSION = 1;
+	private static final int HEADER_SIZE = 64;
+	private static final int COUNT_OFFSET = 12;
+	
+	private static final int SEGMENT_SHIFT = 16;
+	private static final int SEGMENT_RECORDS = 1 << SEGMENT_SHIFT;
+	private static final int SEGMENT_MASK = SEGMENT_RECORDS - 1;
+	
+	private static final int ID = 0;
+	private static final int AMOUNT = 8;
+	private static final int START_DATE = 16;
+	private static final int END_DATE = 24;
+	private static final int AMOUNT_SCALE = 32;
+	private static final int TYPE = 33;
+	private static final int ORDER_NUMBER_LENGTH = 34;
+	private static final int ORDER_NUMBER = 36;
+	
+	private static final byte NULL_AMOUNT = Byte.MIN_VALUE;
+	private static final byte NULL_TYPE = -1;
+	
+	private static final TravelTypeEnum[] TYPES = TravelTypeEnum.values();
+	
+	private final FileChannel channel;
+	private final MappedByteBuffer header;
+	private final List<MappedByteBuffer> segments = new ArrayList<>();
+	
+	/**
+	 * Opens the store in the file, creating it if it doesn't exist, and indexes the travels 
+	 * already stored.
+	 * 
+	 * @param file
+	 * @throws UncheckedIOException if the file can't be opened or mapped
+	 * @throws IllegalStateException if the file is not a travel store
+	 */
+	public MappedTravelRepository(Path file) {
+		
+		try {
+			channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+			boolean created = channel.size() == 0;
+			header = channel.map(MapMode.READ_WRITE, 0, HEADER_SIZE);
+			
+			if(created) {
+				header.putInt(0, MAGIC);
+				header.putInt(4, VERSION);
+				header.putInt(8, RECORD_SIZE);
+				header.putInt(COUNT_OFFSET, 0);
+			}else if(header.getInt(0) != MAGIC || header.getInt(4) != VERSION || header.getInt(8) != RECORD_SIZE) {
+				channel.close();
+				throw new IllegalStateException("The file " + file + " is not a travel store.");
+			}
+		}catch(IOException e) {
+			throw new UncheckedIOException("The travel store " + file + " can't be opened.", e);
+		}
+		
+		lock.writeLock().lock();
+		try {
+			loadRows(header.getInt(COUNT_OFFSET));
+		}finally {
+			lock.writeLock().unlock();
+		}
+	}
+	
+	/**
+	 * Checks if the amount and the order number fit in the record.
+	 */
+	@Override
+	public void checkStorable(Travel travel) {
+		
+		BigDecimal amount = travel.getAmount();
+		if(amount != null && (amount.scale() < 0 || amount.scale() > Byte.MAX_VALUE 
+				|| amount.unscaledValue().bitLength() >= Long.SIZE)) {
+			throw new IllegalArgumentException("The amount " + amount + " doesn't fit in the travel record.");
+		}
+		
+		if(travel.getOrderNumber() != null 
+				&& travel.getOrderNumber().getBytes(StandardCharsets.UTF_8).length > MAX_ORDER_NUMBER_BYTES) {
+			throw new IllegalArgumentException("The order number is longer than " + MAX_ORDER_NUMBER_BYTES + " bytes.");
+		}
+	}
+	
+	/**
+	 * Forces the records to disk and closes the file. The store can't be used after it is closed.
+	 */
+	@Override
+	public void close() {
+		lock.writeLock().lock();
+		try {
+			segments.forEach(MappedByteBuffer::force);
+			header.force();
+			channel.close();
+		}catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}finally {
+			lock.writeLock().unlock();
+		}
+	}
+	
+	@Override
+	protected long idAt(int row) {
+		return segment(row).getLong(offset(row) + ID);
+	}
+	
+	@Override
+	protected String orderNumberAt(int row) {
+		return readOrderNumber(segment(row), offset(row));
+	}
+	
+	@Override
+	protected boolean hasOrderNumber(int row) {
+		return segment(row).get(offset(row) + ORDER_NUMBER_LENGTH) >= 0;
+	}
+	
+	/**
+	 * Computes the <code>hashCode</code> of the order number from the bytes of the record when
+	 * it is in ASCII, in which each byte is a char.
+	 */
+	@Override
+	protected int orderNumberHashAt(int row) {
+		
+		MappedByteBuffer segment = segment(row);
+		int offset = offset(row);
+		int length = segment.get(offset + ORDER_NUMBER_LENGTH);
+		
+		int hash = 0;
+		for(int i = 0; i < length; i++) {
+			byte b = segment.get(offset + ORDER_NUMBER + i);
+			if(b < 0) return readOrderNumber(segment, offset).hashCode();
+			hash = 31 * hash + b;
+		}
+		return hash;
+	}
+	
+	/**
+	 * Compares the order number with the bytes of the record while they are in ASCII.
+	 */
+	@Override
+	protected boolean orderNumberEquals(int row, String orderNumber) {
+		
+		MappedByteBuffer segment = segment(row);
+		int offset = offset(row);
+		int length = segment.get(offset + ORDER_NUMBER_LENGTH);
+		
+		for(int i = 0; i < length; i++) {
+			byte b = segment.get(offset + ORDER_NUMBER + i);
+			if(b < 0) return readOrderNumber(segment, offset).equals(orderNumber);
+			if(i == orderNumber.length() || orderNumber.charAt(i) != b) return false;
+		}
+		return length == orderNumber.length();
+	}
+	
+	@Override
+	protected boolean orderNumberEquals(int row, int otherRow) {
+		
+		MappedByteBuffer segment = segment(row), otherSegment = segment(otherRow);
+		int offset = offset(row), otherOffset = offset(otherRow);
+		int length = segment.get(offset + ORDER_NUMBER_LENGTH);
+		if(length != otherSegment.get(otherOffset + ORDER_NUMBER_LENGTH)) return false;
+		
+		for(int i = 0; i < length; i++) {
+			if(segment.get(offset + ORDER_NUMBER + i) != otherSegment.get(otherOffset + ORDER_NUMBER + i)) return false;
+		}
+		return true;
+	}
+	
+	@Override
+	protected BigDecimal amountAt(int row) {
+		MappedByteBuffer segment = segment(row);
+		int offset = offset(row);
+		byte scale = segment.get(offset + AMOUNT_SCALE);
+		return scale != NULL_AMOUNT ? BigDecimal.valueOf(segment.getLong(offset + AMOUNT), scale) : null;
+	}
+	
+	@Override
+	protected void addAmount(int row, StatisticAggregator aggregator) {
+		MappedByteBuffer segment = segment(row);
+		int offset = offset(row);
+		byte scale = segment.get(offset + AMOUNT_SCALE);
+		if(scale != NULL_AMOUNT) aggregator.add(segment.getLong(offset + AMOUNT), scale);
+	}
+	
+	@Override
+	protected long startDateAt(int row) {
+		return segment(row).getLong(offset(row) + START_DATE);
+	}
+	
+	@Override
+	protected long endDateAt(int row) {
+		return segment(row).getLong(offset(row) + END_DATE);
+	}
+	
+	@Override
+	protected TravelTypeEnum typeAt(int row) {
+		byte type = segment(row).get(offset(row) + TYPE);
+		return type != NULL_TYPE ? TYPES[type] : null;
+	}
+	
+	@Override
+	protected void write(int row, Travel travel) {
+		
+		MappedByteBuffer segment = segment(row);
+		int offset = offset(row);
+		BigDecimal amount = travel.getAmount();
+		
+		segment.putLong(offset + ID, travel.getId());
+		segment.putLong(offset + AMOUNT, amount != null ? amount.unscaledValue().longValue() : 0);
+		segment.putLong(offset + START_DATE, toEpochMilli(travel.getStartDate()));
+		segment.putLong(offset + END_DATE, toEpochMilli(travel.getEndDate()));
+		segment.put(offset + AMOUNT_SCALE, amount != null ? (byte) amount.scale() : NULL_AMOUNT);
+		segment.put(offset + TYPE, travel.getType() != null ? (byte) travel.getType().ordinal() : NULL_TYPE);
+		writeOrderNumber(segment, offset, travel.getOrderNumber());
+		
+		if(row == size) {
+			header.putInt(COUNT_OFFSET, row + 1);
+		}
+	}
+	
+	@Override
+	protected void ensureCapacity(int rows) {
+		try {
+			while(segments.size() * (long) SEGMENT_RECORDS < rows) {
+				long position = HEADER_SIZE + (long) segments.size() * SEGMENT_RECORDS * RECORD_SIZE;
+				segments.add(channel.map(MapMode.READ_WRITE, position, (long) SEGMENT_RECORDS * RECORD_SIZE));
+			}
+		}catch(IOException e) {
+			throw new UncheckedIOException("The travel store can't be extended.", e);
+		}
+	}
+	
+	@Override
+	protected void clearRows() {
+		header.putInt(COUNT_OFFSET, 0);
+	}
+	
+	private MappedByteBuffer segment(int row) {
+		return segments.get(row >>> SEGMENT_SHIFT);
+	}
+	
+	private static int offset(int row) {
+		return (row & SEGMENT_MASK) * RECORD_SIZE;
+	}
+	
+	private static String readOrderNumber(MappedByteBuffer segment, int offset) {
+		
+		int length = segment.get(offset + ORDER_NUMBER_LENGTH);
+		if(length < 0) return null;
+		
+		byte[] bytes = new byte[length];
+		for(int i = 0; i < length; i++) {
+			bytes[i] = segment.get(offset + ORDER_NUMBER + i);
+		}
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+	
+	private static void writeOrderNumber(MappedByteBuffer segment, int offset, String orderNumber) {
+		
+		if(orderNumber == null) {
+			segment.put(offset + ORDER_NUMBER_LENGTH, (byte) -1);
+			return;
+		}
+		
+		byte[] bytes = orderNumber.getBytes(StandardCharsets.UTF_8);
+		segment.put(offset + ORDER_NUMBER_LENGTH, (byte) bytes.length);
+		for(int i = 0; i < bytes.length; i++) {
+			segment.put(offset + ORDER_NUMBER + i, bytes[i]);
+		}
+	}
+
+}
@@ -0,0 +1,399 @@
+package io.github.mariazevedo88.travelsapi.repository.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import io.github.mariazevedo88.travelsapi.enumeration.DurabilityModeEnum;
+import io.github.mariazevedo88.travelsapi.enumeration.TravelTypeEnum;
+import io.github.mariazevedo88.travelsapi.model.Statistic;
+import io.github.mariazevedo88.travelsapi.model.Travel;
+import io.github.mariazevedo88.travelsapi.repository.TravelRepository;
+import io.github.mariazevedo88.travelsapi.repository.wal.WriteAheadLog;
+
+/**
+ * Implementation of the <code>TravelRepository</code> that makes another repository durable, 
+ * appending every write to a <code>WriteAheadLog</code>. When the repository is created, the 
+ * log is replayed into the other repository, that must be empty, since the log holds all its 
+ * travels. The reads go directly to the other repository.
+ * 
+ * The records of the log are binary: the operation (save, save of a batch or delete all) 
+ * followed by the travels, each one with all its fields, so replaying a save twice has the 
+ * same effect as replaying it once.
+ * 
+ * A write appends its record and applies it to the other repository holding the lock of 
+ * its stripe of ids (all of them for the batches and the deletes), so the writes of a travel
+ * are replayed in the order they were applied, while the writes of different stripes only 
+ * contend to copy their records to the log. The writer waits for the record to be durable 
+ * after releasing the lock. 
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public class WalTravelRepository implements TravelRepository {
+	
+	private static final Logger logger = LogManager.getLogger(WalTravelRepository.class);
+	
+	private static final byte SAVE = 1;
+	private static final byte SAVE_ALL = 2;
+	private static final byte DELETE_ALL = 3;
+	
+	private static final TravelTypeEnum[] TYPES = TravelTypeEnum.values();
+	
+	private static final int STRIPE_BITS = 6;
+	
+	private final TravelRepository repository;
+	private final WriteAheadLog log;
+	private final ReentrantLock[] writeLocks = new ReentrantLock[1 << STRIPE_BITS];
+	
+	/**
+	 * @param repository - where the travels are kept, initially empty
+	 * @param directory - directory of the log
+	 * @param durability - when a write is durable
+	 * @param intervalMillis - interval between forces, in the <code>INTERVAL</code> mode
+	 * @param snapshotRecords - number of writes after which a snapshot is taken and the log truncated
+	 * @throws IllegalStateException if the repository is not empty
+	 */
+	public WalTravelRepository(TravelRepository repository, Path directory, DurabilityModeEnum durability, 
+			long intervalMillis, long snapshotRecords) {
+		
+		if(repository.count() > 0) {
+			throw new IllegalStateException("The repository of the write-ahead log must be empty, but it has " 
+					+ repository.count() + " travels.");
+		}
+		
+		this.repository = repository;
+		for(int i = 0; i < writeLocks.length; i++) {
+			writeLocks[i] = new ReentrantLock();
+		}
+		this.log = new WriteAheadLog(directory, durability, intervalMillis, snapshotRecords, this::snapshot);
+		
+		long records = log.replay(this::redo);
+		logger.info("Write-ahead log replayed: {} records, {} travels.", records, repository.count());
+		
+		log.open();
+	}
+
+	@Override
+	public Travel save(Travel travel) {
+		
+		repository.checkStorable(travel);
+		
+		byte[] record = encode(SAVE, List.of(travel));
+		int stripe = stripeFor(travel.getId());
+		return write(stripe, stripe, record, () -> repository.save(travel));
+	}
+
+	@Override
+	public void saveAll(Collection<Travel> travels) {
+		
+		if(travels.isEmpty()) return;
+		travels.forEach(repository::checkStorable);
+		
+		byte[] record = encode(SAVE_ALL, travels);
+		write(0, writeLocks.length - 1, record, () -> {
+			repository.saveAll(travels);
+			return null;
+		});
+	}
+
+	/*
+	 * All the writes of the travel take the lock of its stripe, so the travel read can't change
+	 * until it is replaced.
+	 */
+	@Override
+	public Travel computeIfPresent(long id, UnaryOperator<Travel> remapping) {
+		
+		ReentrantLock writeLock = writeLocks[stripeFor(id)];
+		Travel travelUpdated;
+		long sequence;
+		
+		writeLock.lock();
+		try {
+			Travel travel = repository.findById(id);
+			if(travel == null) return null;
+			
+			Travel travelRemapped = remapping.apply(travel);
+			if(travelRemapped.getId() == null || travelRemapped.getId() != id) {
+				throw new IllegalArgumentException("The travel updated must have the id " + id + ".");
+			}
+			repository.checkStorable(travelRemapped);
+			
+			sequence = log.append(encode(SAVE, List.of(travelRemapped)));
+			apply(() -> repository.save(travelRemapped));
+			travelUpdated = travelRemapped;
+		}finally {
+			writeLock.unlock();
+		}
+		
+		log.awaitDurable(sequence);
+		return travelUpdated;
+	}
+
+	@Override
+	public Travel findById(long id) {
+		return repository.findById(id);
+	}
+
+	@Override
+	public List<Travel> findByOrderNumber(String orderNumber) {
+		return repository.findByOrderNumber(orderNumber);
+	}
+
+	@Override
+	public List<Travel> findAll() {
+		return repository.findAll();
+	}
+
+	@Override
+	public List<Travel> findPage(Long after, int limit, Predicate<Travel> filter) {
+		return repository.findPage(after, limit, filter);
+	}
+
+	@Override
+	public List<Travel> findActive(LocalDateTime from, LocalDateTime to, LocalDateTime afterStart, Long after, int limit) {
+		return repository.findActive(from, to, afterStart, after, limit);
+	}
+
+	@Override
+	public Iterator<Travel> iterator() {
+		return repository.iterator();
+	}
+
+	@Override
+	public Spliterator<Travel> spliterator() {
+		return repository.spliterator();
+	}
+
+	@Override
+	public long count() {
+		return repository.count();
+	}
+
+	@Override
+	public Statistic statistics() {
+		return repository.statistics();
+	}
+
+	@Override
+	public void deleteAll() {
+		write(0, writeLocks.length - 1, new byte[] { DELETE_ALL }, () -> {
+			repository.deleteAll();
+			return null;
+		});
+	}
+	
+	@Override
+	public void checkStorable(Travel travel) {
+		repository.checkStorable(travel);
+	}
+	
+	@Override
+	public void close() {
+		log.close();
+		repository.close();
+	}
+	
+	/**
+	 * Method that appends the record of a write and applies the write holding the locks of 
+	 * the stripes [first, last], and then waits for the record to be durable. If the write 
+	 * fails after its record was appended, the log stops accepting writes.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param first - first stripe locked
+	 * @param last - last stripe locked
+	 * @param record
+	 * @param write
+	 * @return the result of the write
+	 */
+	private <T> T write(int first, int last, byte[] record, Supplier<T> write) {
+		
+		long sequence;
+		T result;
+		
+		for(int i = first; i <= last; i++) {
+			writeLocks[i].lock();
+		}
+		try {
+			sequence = log.append(record);
+			result = apply(write);
+		}finally {
+			for(int i = last; i >= first; i--) {
+				writeLocks[i].unlock();
+			}
+		}
+		
+		log.awaitDurable(sequence);
+		return result;
+	}
+	
+	/*
+	 * The record of the write is already in the log, so the log can't accept other writes if
+	 * it fails.
+	 */
+	private <T> T apply(Supplier<T> write) {
+		try {
+			return write.get();
+		}catch(RuntimeException | Error e) {
+			log.fail(e);
+			throw e;
+		}
+	}
+	
+	private static int stripeFor(long id) {
+		return (int) ((id * 0x9E3779B97F4A7C15L) >>> (Long.SIZE - STRIPE_BITS));
+	}
+	
+	/**
+	 * Method that applies a record of the log to the repository.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param record
+	 * @throws IOException if the record is not valid
+	 */
+	private void redo(DataInput record) throws IOException {
+		
+		byte operation = record.readByte();
+		switch(operation) {
+			case SAVE:
+				record.readInt();
+				repository.save(readTravel(record));
+				break;
+			case SAVE_ALL:
+				int count = record.readInt();
+				List<Travel> travels = new ArrayList<>(count);
+				for(int i = 0; i < count; i++) {
+					travels.add(readTravel(record));
+				}
+				repository.saveAll(travels);
+				break;
+			case DELETE_ALL:
+				repository.deleteAll();
+				break;
+			default:
+				throw new IOException("Unknown operation in the write-ahead log: " + operation);
+		}
+	}
+	
+	/**
+	 * The records appended before the new segment was started may not be applied yet, so 
+	 * the snapshot waits for the writes in progress, taking the lock of each stripe once.
+	 * 
+	 * @return the records of a snapshot of the repository, a save per travel
+	 */
+	private Iterator<byte[]> snapshot() {
+		
+		for(ReentrantLock writeLock : writeLocks) {
+			writeLock.lock();
+			writeLock.unlock();
+		}
+		Iterator<Travel> travels = repository.iterator();
+		
+		return new Iterator<>() {
+			
+			@Override
+			public boolean hasNext() {
+				return travels.hasNext();
+			}
+			
+			@Override
+			public byte[] next() {
+				return encode(SAVE, List.of(travels.next()));
+			}
+		};
+	}
+	
+	private static byte[] encode(byte operation, Collection<Travel> travels) {
+		
+		var bytes = new ByteArrayOutputStream(16 + travels.size() * 64);
+		var out = new DataOutputStream(bytes);
+		
+		try {
+			out.writeByte(operation);
+			out.writeInt(travels.size());
+			for(Travel travel : travels) {
+				writeTravel(out, travel);
+			}
+		}catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		
+		return bytes.toByteArray();
+	}
+	
+	private static void writeTravel(DataOutputStream out, Travel travel) throws IOException {
+		
+		out.writeLong(travel.getId());
+		
+		out.writeBoolean(travel.getOrderNumber() != null);
+		if(travel.getOrderNumber() != null) out.writeUTF(travel.getOrderNumber());
+		
+		out.writeBoolean(travel.getAmount() != null);
+		if(travel.getAmount() != null) {
+			byte[] unscaled = travel.getAmount().unscaledValue().toByteArray();
+			out.writeInt(travel.getAmount().scale());
+			out.writeShort(unscaled.length);
+			out.write(unscaled);
+		}
+		
+		writeDate(out, travel.getStartDate());
+		writeDate(out, travel.getEndDate());
+		out.writeByte(travel.getType() != null ? travel.getType().ordinal() : -1);
+	}
+	
+	private static Travel readTravel(DataInput in) throws IOException {
+		
+		long id = in.readLong();
+		String orderNumber = in.readBoolean() ? in.readUTF() : null;
+		
+		BigDecimal amount = null;
+		if(in.readBoolean()) {
+			int scale = in.readInt();
+			byte[] unscaled = new byte[in.readUnsignedShort()];
+			in.readFully(unscaled);
+			amount = new BigDecimal(new BigInteger(unscaled), scale);
+		}
+		
+		LocalDateTime startDate = readDate(in);
+		LocalDateTime endDate = readDate(in);
+		byte type = in.readByte();
+		
+		return new Travel(id, orderNumber, amount, startDate, endDate, type >= 0 ? TYPES[type] : null);
+	}
+	
+	private static void writeDate(DataOutputStream out, LocalDateTime date) throws IOException {
+		out.writeBoolean(date != null);
+		if(date != null) {
+			out.writeLong(date.toEpochSecond(ZoneOffset.UTC));
+			out.writeInt(date.getNano());
+		}
+	}
+	
+	private static LocalDateTime readDate(DataInput in) throws IOException {
+		return in.readBoolean() ? LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC) : null;
+	}
+
+}
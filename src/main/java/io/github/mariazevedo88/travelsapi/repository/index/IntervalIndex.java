@@ -0,0 +1,278 @@
+package io.github.mariazevedo88.travelsapi.repository.index;
+
+import java.util.Arrays;
+
+/**
+ * Interval tree with primitive <code>long</code> bounds and values, used to index the travels
+ * by the period between the start and the end date, in epoch milliseconds. It is a treap
+ * ordered by start (and value, to tell apart intervals with the same start) where each node
+ * also keeps the greatest end of its subtree, so the subtrees without any interval that ends
+ * after the query start are skipped. The nodes are kept in parallel arrays, reused after
+ * removals, so the index doesn't create an object per interval.
+ * 
+ * Inserts and removals are O(log n) expected. A query visits O(log n + k) nodes to report the
+ * k intervals that start inside the queried period, and O(log n) more per interval that
+ * started before it and is still open, bounded by the size of the index. The intervals are
+ * read in pages, in the order of the treap: a page resumes after the (start, value) of the
+ * last interval of the previous page in O(log n), and stops when it is full, so reading k 
+ * intervals in pages costs about the same as reading them at once.
+ * 
+ * This class is not thread-safe.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public class IntervalIndex {
+	
+	private static final int DEFAULT_CAPACITY = 16;
+	private static final int NIL = -1;
+	
+	private long[] starts;
+	private long[] ends;
+	private long[] maxEnds;
+	private long[] values;
+	private int[] lefts;
+	private int[] rights;
+	private int[] priorities;
+	
+	private int root = NIL;
+	private int size;
+	private int allocated;
+	private int free = NIL;
+	private int seed = 0x2545F491;
+	
+	public IntervalIndex() {
+		allocate(DEFAULT_CAPACITY);
+	}
+	
+	/**
+	 * Method that adds the interval [start, end] of the value.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param start
+	 * @param end
+	 * @param value
+	 */
+	public void add(long start, long end, long value) {
+		root = insert(root, newNode(start, end, value));
+	}
+	
+	/**
+	 * Method that removes the interval of the value that starts at <code>start</code>.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param start
+	 * @param value
+	 * @return true if the interval was in the index
+	 */
+	public boolean remove(long start, long value) {
+		int previousSize = size;
+		root = remove(root, start, value);
+		return size < previousSize;
+	}
+	
+	/**
+	 * Method that copies the start and the value of the intervals that overlap [from, to], that
+	 * is, that start at or before <code>to</code> and end at or after <code>from</code>, ordered 
+	 * by start and value, beginning after the interval (<code>afterStart</code>, 
+	 * <code>afterValue</code>), until the arrays are full.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param from
+	 * @param to
+	 * @param afterStart - start of the last interval of the previous page, or 
+	 * <code>Long.MIN_VALUE</code> for the first page
+	 * @param afterValue - value of the last interval of the previous page, or 
+	 * <code>Long.MIN_VALUE</code> for the first page
+	 * @param foundStarts - the starts of the intervals found
+	 * @param foundValues - the values of the intervals found, with the same length
+	 * @return the number of intervals found
+	 */
+	public int findOverlapping(long from, long to, long afterStart, long afterValue, long[] foundStarts, long[] foundValues) {
+		return findOverlapping(root, from, to, afterStart, afterValue, foundStarts, foundValues, 0);
+	}
+	
+	public int size() {
+		return size;
+	}
+	
+	public void clear() {
+		allocate(DEFAULT_CAPACITY);
+		root = NIL;
+		size = 0;
+		allocated = 0;
+		free = NIL;
+	}
+	
+	/*
+	 * The nodes up to the cursor are skipped with their left subtrees, so the search goes down
+	 * to the cursor before reporting anything.
+	 */
+	private int findOverlapping(int node, long from, long to, long afterStart, long afterValue, 
+			long[] foundStarts, long[] foundValues, int found) {
+		
+		while(node != NIL && found < foundStarts.length && maxEnds[node] >= from) {
+			if(compare(afterStart, afterValue, node) < 0) {
+				found = findOverlapping(lefts[node], from, to, afterStart, afterValue, foundStarts, foundValues, found);
+				if(found == foundStarts.length || starts[node] > to) return found;
+				if(ends[node] >= from) {
+					foundStarts[found] = starts[node];
+					foundValues[found++] = values[node];
+				}
+			}
+			node = rights[node];
+		}
+		return found;
+	}
+	
+	private int insert(int node, int inserted) {
+		
+		if(node == NIL) return inserted;
+		
+		if(compare(starts[inserted], values[inserted], node) < 0) {
+			lefts[node] = insert(lefts[node], inserted);
+			if(priorities[lefts[node]] > priorities[node]) return rotateRight(node);
+		}else {
+			rights[node] = insert(rights[node], inserted);
+			if(priorities[rights[node]] > priorities[node]) return rotateLeft(node);
+		}
+		
+		update(node);
+		return node;
+	}
+	
+	private int remove(int node, long start, long value) {
+		
+		if(node == NIL) return NIL;
+		
+		int comparison = compare(start, value, node);
+		if(comparison < 0) {
+			lefts[node] = remove(lefts[node], start, value);
+		}else if(comparison > 0) {
+			rights[node] = remove(rights[node], start, value);
+		}else {
+			int merged = merge(lefts[node], rights[node]);
+			release(node);
+			return merged;
+		}
+		
+		update(node);
+		return node;
+	}
+	
+	/*
+	 * Joins two subtrees where every interval of the first one comes before the second one.
+	 */
+	private int merge(int first, int second) {
+		
+		if(first == NIL) return second;
+		if(second == NIL) return first;
+		
+		if(priorities[first] > priorities[second]) {
+			rights[first] = merge(rights[first], second);
+			update(first);
+			return first;
+		}
+		
+		lefts[second] = merge(first, lefts[second]);
+		update(second);
+		return second;
+	}
+	
+	private int rotateRight(int node) {
+		int left = lefts[node];
+		lefts[node] = rights[left];
+		rights[left] = node;
+		update(node);
+		update(left);
+		return left;
+	}
+	
+	private int rotateLeft(int node) {
+		int right = rights[node];
+		rights[node] = lefts[right];
+		lefts[right] = node;
+		update(node);
+		update(right);
+		return right;
+	}
+	
+	private void update(int node) {
+		long maxEnd = ends[node];
+		if(lefts[node] != NIL) maxEnd = Math.max(maxEnd, maxEnds[lefts[node]]);
+		if(rights[node] != NIL) maxEnd = Math.max(maxEnd, maxEnds[rights[node]]);
+		maxEnds[node] = maxEnd;
+	}
+	
+	private int compare(long start, long value, int node) {
+		int comparison = Long.compare(start, starts[node]);
+		return comparison != 0 ? comparison : Long.compare(value, values[node]);
+	}
+	
+	private int newNode(long start, long end, long value) {
+		
+		int node;
+		if(free != NIL) {
+			node = free;
+			free = lefts[node];
+		}else {
+			if(allocated == starts.length) grow();
+			node = allocated++;
+		}
+		
+		starts[node] = start;
+		ends[node] = end;
+		maxEnds[node] = end;
+		values[node] = value;
+		lefts[node] = NIL;
+		rights[node] = NIL;
+		priorities[node] = nextPriority();
+		size++;
+		
+		return node;
+	}
+	
+	/*
+	 * The released nodes are chained through the left links.
+	 */
+	private void release(int node) {
+		lefts[node] = free;
+		free = node;
+		size--;
+	}
+	
+	private int nextPriority() {
+		seed ^= seed << 13;
+		seed ^= seed >>> 17;
+		seed ^= seed << 5;
+		return seed;
+	}
+	
+	private void allocate(int capacity) {
+		starts = new long[capacity];
+		ends = new long[capacity];
+		maxEnds = new long[capacity];
+		values = new long[capacity];
+		lefts = new int[capacity];
+		rights = new int[capacity];
+		priorities = new int[capacity];
+	}
+	
+	private void grow() {
+		int capacity = starts.length << 1;
+		starts = Arrays.copyOf(starts, capacity);
+		ends = Arrays.copyOf(ends, capacity);
+		maxEnds = Arrays.copyOf(maxEnds, capacity);
+		values = Arrays.copyOf(values, capacity);
+		lefts = Arrays.copyOf(lefts, capacity);
+		rights = Arrays.copyOf(rights, capacity);
+		priorities = Arrays.copyOf(priorities, capacity);
+	}
+
+}
@@ -0,0 +1,181 @@
+package io.github.mariazevedo88.travelsapi.repository.index;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Open addressing hash map with primitive <code>long</code> keys, used to index the travels
+ * by id. Lookups, inserts and removals are O(1) on average and don't box the key, so 
+ * they don't allocate. Null values are not supported.
+ * 
+ * This class is not thread-safe.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ * 
+ * @param <V> the type of the mapped values
+ */
+public class LongHashMap<V> {
+	
+	private static final int DEFAULT_CAPACITY = 16;
+	private static final float LOAD_FACTOR = 0.5f;
+	
+	private long[] keys;
+	private Object[] values;
+	private int mask;
+	private int size;
+	private int resizeThreshold;
+	
+	public LongHashMap() {
+		this(DEFAULT_CAPACITY);
+	}
+	
+	public LongHashMap(int expectedSize) {
+		allocate(tableSizeFor(expectedSize));
+	}
+	
+	/**
+	 * Method that returns the value mapped to the key, or null if there is none.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param key
+	 * @return V
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(long key) {
+		for(int i = indexFor(key); values[i] != null; i = (i + 1) & mask) {
+			if(keys[i] == key) return (V) values[i];
+		}
+		return null;
+	}
+	
+	/**
+	 * Method that maps the value to the key, replacing any previous mapping.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param key
+	 * @param value
+	 * @return the previous value mapped to the key, or null if there was none
+	 */
+	@SuppressWarnings("unchecked")
+	public V put(long key, V value) {
+		
+		if(value == null) throw new IllegalArgumentException("Null values are not supported.");
+		
+		int i = indexFor(key);
+		for(; values[i] != null; i = (i + 1) & mask) {
+			if(keys[i] == key) {
+				V previous = (V) values[i];
+				values[i] = value;
+				return previous;
+			}
+		}
+		
+		keys[i] = key;
+		values[i] = value;
+		if(++size > resizeThreshold) rehash(keys.length << 1);
+		
+		return null;
+	}
+	
+	/**
+	 * Method that removes the mapping of the key, using backward shift deletion so no
+	 * tombstones are left in the table.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param key
+	 * @return the value that was mapped to the key, or null if there was none
+	 */
+	@SuppressWarnings("unchecked")
+	public V remove(long key) {
+		
+		int i = indexFor(key);
+		for(; values[i] != null; i = (i + 1) & mask) {
+			if(keys[i] == key) break;
+		}
+		
+		if(values[i] == null) return null;
+		
+		V removed = (V) values[i];
+		int gap = i;
+		for(int j = (gap + 1) & mask; values[j] != null; j = (j + 1) & mask) {
+			int home = indexFor(keys[j]);
+			if(((j - home) & mask) >= ((j - gap) & mask)) {
+				keys[gap] = keys[j];
+				values[gap] = values[j];
+				gap = j;
+			}
+		}
+		values[gap] = null;
+		size--;
+		
+		return removed;
+	}
+	
+	/**
+	 * Method that performs the action for each value of the map, in no particular order.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param action
+	 */
+	@SuppressWarnings("unchecked")
+	public void forEachValue(Consumer<? super V> action) {
+		for(Object value : values) {
+			if(value != null) action.accept((V) value);
+		}
+	}
+	
+	public int size() {
+		return size;
+	}
+	
+	public boolean isEmpty() {
+		return size == 0;
+	}
+	
+	public void clear() {
+		Arrays.fill(values, null);
+		size = 0;
+	}
+	
+	private int indexFor(long key) {
+		long hash = key * 0x9E3779B97F4A7C15L;
+		return (int) (hash ^ (hash >>> 32)) & mask;
+	}
+	
+	private void allocate(int capacity) {
+		keys = new long[capacity];
+		values = new Object[capacity];
+		mask = capacity - 1;
+		resizeThreshold = (int) (capacity * LOAD_FACTOR);
+	}
+	
+	private void rehash(int capacity) {
+		
+		long[] oldKeys = keys;
+		Object[] oldValues = values;
+		allocate(capacity);
+		
+		for(int i = 0; i < oldValues.length; i++) {
+			if(oldValues[i] == null) continue;
+			int j = indexFor(oldKeys[i]);
+			while(values[j] != null) j = (j + 1) & mask;
+			keys[j] = oldKeys[i];
+			values[j] = oldValues[i];
+		}
+	}
+	
+	private static int tableSizeFor(int expectedSize) {
+		int capacity = Integer.highestOneBit(Math.max((int) (expectedSize / LOAD_FACTOR), 2) - 1) << 1;
+		return Math.max(capacity, 2);
+	}
+
+}
@@ -0,0 +1,539 @@
+package io.github.mariazevedo88.travelsapi.repository.wal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import io.github.mariazevedo88.travelsapi.enumeration.DurabilityModeEnum;
+
+/**
+ * Append-only, binary write-ahead log. Each record is written as its length, its CRC32 and 
+ * its bytes, so a record torn by a crash is detected and ignored by the replay.
+ * 
+ * The writers only append the records to a buffer; a single flusher thread writes the buffer 
+ * to the log file and forces it to disk, so all the records that arrive while the disk is busy 
+ * are forced together in the next write (group commit). When the writer waits for the force 
+ * depends on the <code>DurabilityModeEnum</code>. The lock of the log only covers copying a 
+ * record, already framed, to the buffer: the writes are applied by the callers, outside of it.
+ * 
+ * The log is fail-stop: once a record can't be written, or a write can't be applied after 
+ * its record was appended, every following append fails, so the state never moves further 
+ * away from the log.
+ * 
+ * The log is split in segments, numbered in the order they are created. After a given number 
+ * of records, a new segment is started and a snapshot of the state is written in background, 
+ * as records too. Once the snapshot is complete, the previous segments are deleted. The snapshot 
+ * may also contain writes made after the new segment was started, which is not a problem since 
+ * replaying a record twice must have the same effect as replaying it once.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public class WriteAheadLog {
+	
+	private static final Logger logger = LogManager.getLogger(WriteAheadLog.class);
+	
+	private static final String SEGMENT_PREFIX = "wal-";
+	private static final String SEGMENT_SUFFIX = ".log";
+	private static final String SNAPSHOT_PREFIX = "snapshot-";
+	private static final String SNAPSHOT_SUFFIX = ".dat";
+	
+	private final Path directory;
+	private final DurabilityModeEnum durability;
+	private final long intervalMillis;
+	private final long snapshotRecords;
+	private final Supplier<Iterator<byte[]>> snapshotSource;
+	
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition appended = lock.newCondition();
+	private final Condition flushed = lock.newCondition();
+	
+	private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+	private ByteArrayOutputStream spareBuffer = new ByteArrayOutputStream();
+	private long appendedRecords;
+	private long durableRecords;
+	private IOException failure;
+	private boolean closed;
+	
+	private long segment;
+	private long segmentRecords;
+	private FileChannel channel;
+	private Thread flusher;
+	
+	private final ExecutorService snapshotExecutor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "wal-snapshot");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private boolean snapshotRunning;
+	
+	/**
+	 * @param directory - where the segments and snapshots are kept
+	 * @param durability - when a write is durable
+	 * @param intervalMillis - interval between forces, in the <code>INTERVAL</code> mode
+	 * @param snapshotRecords - number of records written after which a snapshot is taken
+	 * @param snapshotSource - records that recreate the current state, including the writes 
+	 * of all the records appended before it is called
+	 */
+	public WriteAheadLog(Path directory, DurabilityModeEnum durability, long intervalMillis, 
+			long snapshotRecords, Supplier<Iterator<byte[]>> snapshotSource) {
+		
+		this.directory = directory;
+		this.durability = durability;
+		this.intervalMillis = intervalMillis;
+		this.snapshotRecords = snapshotRecords;
+		this.snapshotSource = snapshotSource;
+	}
+	
+	/**
+	 * Interface of the consumers of the records read by the replay.
+	 */
+	@FunctionalInterface
+	public interface RecordConsumer {
+		void accept(DataInput record) throws IOException;
+	}
+	
+	/**
+	 * Method that replays the latest snapshot and then the segments written after it, in order.
+	 * Must be called before <code>open</code>.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param consumer
+	 * @return the number of records replayed
+	 * @throws UncheckedIOException if the log can't be read
+	 */
+	public long replay(RecordConsumer consumer) {
+		
+		try {
+			Files.createDirectories(directory);
+			
+			List<Long> snapshots = list(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+			long firstSegment = snapshots.isEmpty() ? 0 : snapshots.get(snapshots.size() - 1);
+			long records = 0;
+			
+			if(!snapshots.isEmpty()) {
+				records += replay(path(SNAPSHOT_PREFIX, firstSegment, SNAPSHOT_SUFFIX), consumer);
+			}
+			for(long number : list(SEGMENT_PREFIX, SEGMENT_SUFFIX)) {
+				if(number >= firstSegment) {
+					records += replay(path(SEGMENT_PREFIX, number, SEGMENT_SUFFIX), consumer);
+				}
+				segment = Math.max(segment, number + 1);
+			}
+			segment = Math.max(segment, firstSegment);
+			
+			return records;
+		}catch(IOException e) {
+			throw new UncheckedIOException("The write-ahead log can't be replayed.", e);
+		}
+	}
+	
+	/**
+	 * Method that starts a new segment and the flusher thread.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @throws UncheckedIOException if the segment can't be created
+	 */
+	public void open() {
+		
+		try {
+			Files.createDirectories(directory);
+			channel = openSegment(segment);
+		}catch(IOException e) {
+			throw new UncheckedIOException("The write-ahead log can't be opened.", e);
+		}
+		
+		flusher = new Thread(this::flush, "wal-flusher");
+		flusher.setDaemon(true);
+		flusher.start();
+	}
+	
+	/**
+	 * Method that appends a record to the log and returns its sequence. The record is framed 
+	 * (length and CRC32) before the lock is taken, so the writers only contend to copy it to 
+	 * the buffer.
+	 * 
+	 * The log doesn't apply the write: the caller applies it right after the append, and must 
+	 * hold a lock across both that keeps the writes that conflict with it (e.g. of the same 
+	 * travel) from appending and applying in another order, so the replay applies them in the 
+	 * order they were applied. If the write can't be applied, the caller must call 
+	 * <code>fail</code>, since the record can't be taken back.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param record
+	 * @return the sequence of the record, to be passed to <code>awaitDurable</code>
+	 * @throws UncheckedIOException if the log can't be written
+	 */
+	public long append(byte[] record) {
+		
+		var crc = new CRC32();
+		crc.update(record);
+		byte[] frame = ByteBuffer.allocate(Integer.BYTES * 2 + record.length)
+				.putInt(record.length).putInt((int) crc.getValue()).put(record).array();
+		
+		lock.lock();
+		try {
+			checkWritable();
+			buffer.writeBytes(frame);
+			appended.signal();
+			return ++appendedRecords;
+		}finally {
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Method that waits until the record is durable, in the <code>PER_REQUEST</code> mode. In 
+	 * the other modes it returns immediately. Must not be called holding the lock of the 
+	 * write, so the writers that arrive meanwhile can join the same force.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param sequence - returned by <code>append</code>
+	 * @throws UncheckedIOException if the log can't be written
+	 */
+	public void awaitDurable(long sequence) {
+		
+		if(durability != DurabilityModeEnum.PER_REQUEST) return;
+		
+		lock.lock();
+		try {
+			while(durableRecords < sequence) {
+				if(failure != null) throw new UncheckedIOException("The write-ahead log can't be written.", failure);
+				flushed.awaitUninterruptibly();
+			}
+		}finally {
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Method that stops the log from accepting writes because a write couldn't be applied 
+	 * after its record was appended. The records already appended are still written.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param cause
+	 */
+	public void fail(Throwable cause) {
+		
+		logger.error("A write couldn't be applied after its record was appended to the write-ahead log. {}", cause.toString());
+		
+		lock.lock();
+		try {
+			if(failure == null) failure = new IOException("A write couldn't be applied after its record was appended.", cause);
+		}finally {
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Method that writes the pending records, forces them to disk and stops the flusher.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 */
+	public void close() {
+		
+		lock.lock();
+		try {
+			closed = true;
+			appended.signal();
+		}finally {
+			lock.unlock();
+		}
+		
+		try {
+			if(flusher != null) flusher.join();
+			snapshotExecutor.shutdown();
+			snapshotExecutor.awaitTermination(1, TimeUnit.MINUTES);
+			if(channel != null) {
+				channel.force(false);
+				channel.close();
+			}
+		}catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	private void checkWritable() {
+		if(closed) throw new IllegalStateException("The write-ahead log is closed.");
+		if(failure != null) throw new UncheckedIOException("The write-ahead log can't be written.", failure);
+	}
+	
+	/**
+	 * Loop of the flusher thread: swaps the buffer of the writers by an empty one, writes it to 
+	 * the segment and, unless the mode is <code>OS_BUFFERED</code>, forces it to disk.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 */
+	private void flush() {
+		
+		while(true) {
+			
+			if(durability == DurabilityModeEnum.INTERVAL && !isClosed()) {
+				try {
+					Thread.sleep(intervalMillis);
+				}catch(InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			
+			ByteArrayOutputStream records;
+			long sequence;
+			
+			lock.lock();
+			try {
+				while(buffer.size() == 0 && !closed) {
+					appended.awaitUninterruptibly();
+				}
+				if(buffer.size() == 0) return;
+				
+				records = buffer;
+				buffer = spareBuffer;
+				spareBuffer = records;
+				sequence = appendedRecords;
+			}finally {
+				lock.unlock();
+			}
+			
+			try {
+				ByteBuffer bytes = ByteBuffer.wrap(records.toByteArray());
+				while(bytes.hasRemaining()) {
+					channel.write(bytes);
+				}
+				if(durability != DurabilityModeEnum.OS_BUFFERED) {
+					channel.force(false);
+				}
+			}catch(IOException e) {
+				logger.error("The write-ahead log can't be written. {}", e.toString());
+				lock.lock();
+				try {
+					failure = e;
+					flushed.signalAll();
+				}finally {
+					lock.unlock();
+				}
+				return;
+			}
+			
+			lock.lock();
+			try {
+				spareBuffer.reset();
+				segmentRecords += sequence - durableRecords;
+				durableRecords = sequence;
+				flushed.signalAll();
+			}finally {
+				lock.unlock();
+			}
+			
+			if(segmentRecords >= snapshotRecords) {
+				startSnapshot();
+			}
+		}
+	}
+	
+	private boolean isClosed() {
+		lock.lock();
+		try {
+			return closed;
+		}finally {
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Method that starts a new segment and writes, in background, a snapshot of the state 
+	 * up to the end of the previous segment. Only the flusher thread writes the segments, so 
+	 * the new segment starts right after the last record written.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 */
+	private void startSnapshot() {
+		
+		synchronized(snapshotExecutor) {
+			if(snapshotRunning) return;
+			snapshotRunning = true;
+		}
+		
+		long snapshot;
+		try {
+			channel.force(false);
+			channel.close();
+			snapshot = ++segment;
+			channel = openSegment(snapshot);
+			segmentRecords = 0;
+		}catch(IOException e) {
+			logger.error("The write-ahead log segment can't be started. {}", e.toString());
+			synchronized(snapshotExecutor) {
+				snapshotRunning = false;
+			}
+			return;
+		}
+		
+		snapshotExecutor.execute(() -> {
+			try {
+				writeSnapshot(snapshot);
+			}catch(IOException e) {
+				logger.error("The snapshot {} can't be written. {}", snapshot, e.toString());
+			}finally {
+				synchronized(snapshotExecutor) {
+					snapshotRunning = false;
+				}
+			}
+		});
+	}
+	
+	/**
+	 * Method that writes a snapshot to a temporary file, renames it when it is complete and
+	 * deletes the segments and the snapshots it replaces.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param snapshot - number of the first segment not included in the snapshot
+	 * @throws IOException
+	 */
+	private void writeSnapshot(long snapshot) throws IOException {
+		
+		Path temporary = directory.resolve(SNAPSHOT_PREFIX + "tmp");
+		long records = 0;
+		
+		try(FileChannel snapshotChannel = FileChannel.open(temporary, StandardOpenOption.CREATE, 
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			
+			var out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(snapshotChannel), 1 << 16));
+			var crc = new CRC32();
+			
+			for(Iterator<byte[]> source = snapshotSource.get(); source.hasNext(); records++) {
+				byte[] record = source.next();
+				crc.reset();
+				crc.update(record);
+				out.writeInt(record.length);
+				out.writeInt((int) crc.getValue());
+				out.write(record);
+			}
+			out.flush();
+			snapshotChannel.force(true);
+		}
+		
+		Files.move(temporary, path(SNAPSHOT_PREFIX, snapshot, SNAPSHOT_SUFFIX), StandardCopyOption.ATOMIC_MOVE);
+		
+		for(long number : list(SEGMENT_PREFIX, SEGMENT_SUFFIX)) {
+			if(number < snapshot) Files.deleteIfExists(path(SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+		}
+		for(long number : list(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX)) {
+			if(number < snapshot) Files.deleteIfExists(path(SNAPSHOT_PREFIX, number, SNAPSHOT_SUFFIX));
+		}
+		
+		logger.info("Snapshot {} written with {} records.", snapshot, records);
+	}
+	
+	/**
+	 * Method that replays the records of a file, stopping at the first record that is 
+	 * incomplete or corrupted, which can only be the last one written before a crash.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param file
+	 * @param consumer
+	 * @return the number of records replayed
+	 * @throws IOException
+	 */
+	private static long replay(Path file, RecordConsumer consumer) throws IOException {
+		
+		long records = 0;
+		long remaining = Files.size(file);
+		var crc = new CRC32();
+		
+		try(var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+			while(remaining >= Integer.BYTES * 2) {
+				
+				int length = in.readInt();
+				int checksum = in.readInt();
+				remaining -= Integer.BYTES * 2;
+				if(length < 0 || length > remaining) break;
+				
+				byte[] record = new byte[length];
+				in.readFully(record);
+				remaining -= length;
+				
+				crc.reset();
+				crc.update(record);
+				if((int) crc.getValue() != checksum) break;
+				
+				consumer.accept(new DataInputStream(new ByteArrayInputStream(record)));
+				records++;
+			}
+		}
+		
+		if(remaining > 0) {
+			logger.warn("Incomplete or corrupted record in {} after {} records, ignored.", file, records);
+		}
+		return records;
+	}
+	
+	private FileChannel openSegment(long number) throws IOException {
+		return FileChannel.open(path(SEGMENT_PREFIX, number, SEGMENT_SUFFIX), StandardOpenOption.CREATE, 
+				StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+	}
+	
+	private Path path(String prefix, long number, String suffix) {
+		return directory.resolve(prefix + String.format("%020d", number) + suffix);
+	}
+	
+	/**
+	 * @return the numbers of the files with the prefix and the suffix, in ascending order
+	 */
+	private List<Long> list(String prefix, String suffix) throws IOException {
+		try(Stream<Path> files = Files.list(directory)) {
+			return files.map(file -> file.getFileName().toString())
+					.filter(name -> name.startsWith(prefix) && name.endsWith(suffix))
+					.map(name -> Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length())))
+					.sorted()
+					.collect(Collectors.toCollection(ArrayList::new));
+		}
+	}
+
+}
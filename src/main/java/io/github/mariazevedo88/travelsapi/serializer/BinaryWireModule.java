@@ -0,0 +1,140 @@
+package io.github.mariazevedo88.travelsapi.serializer;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+
+import io.github.mariazevedo88.travelsapi.dto.TravelDTO;
+import io.github.mariazevedo88.travelsapi.parser.TravelFieldParser;
+
+/**
+ * Module of the binary formats (CBOR), which carry numbers without converting them to text:
+ * the dates are written as epoch milliseconds (UTC), and the amounts, written by the format 
+ * as decimal fractions, as an unscaled <code>long</code> and a scale. 
+ * 
+ * The requests may send the amount and the dates of a trip as numbers in the same way, or as
+ * text as in JSON. They are bound to the text fields of the <code>TravelDTO</code> in the form
+ * accepted by the <code>TravelFieldParser</code>, so they are validated as the JSON requests.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public class BinaryWireModule extends SimpleModule {
+	
+	private static final long serialVersionUID = 1L;
+	
+	private static final DateTimeFormatter ISO_MILLIS = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSS'Z'");
+	
+	public BinaryWireModule() {
+		super("BinaryWireModule");
+		addSerializer(LocalDateTime.class, new EpochMillisSerializer());
+		addDeserializer(LocalDateTime.class, new EpochMillisDeserializer());
+		setMixInAnnotation(TravelDTO.class, TravelDTOMixIn.class);
+	}
+	
+	private static long toEpochMilli(LocalDateTime date) {
+		return date.toInstant(ZoneOffset.UTC).toEpochMilli();
+	}
+	
+	private static LocalDateTime toLocalDateTime(long epochMilli) {
+		return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneOffset.UTC);
+	}
+	
+	private static final class EpochMillisSerializer extends StdScalarSerializer<LocalDateTime> {
+		
+		private static final long serialVersionUID = 1L;
+		
+		private EpochMillisSerializer() {
+			super(LocalDateTime.class);
+		}
+		
+		@Override
+		public void serialize(LocalDateTime date, JsonGenerator generator, SerializerProvider provider) throws IOException {
+			generator.writeNumber(toEpochMilli(date));
+		}
+	}
+	
+	private static final class EpochMillisDeserializer extends StdScalarDeserializer<LocalDateTime> {
+		
+		private static final long serialVersionUID = 1L;
+		
+		private EpochMillisDeserializer() {
+			super(LocalDateTime.class);
+		}
+		
+		@Override
+		public LocalDateTime deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+			if(parser.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+				return toLocalDateTime(parser.getLongValue());
+			}
+			return TravelFieldParser.parseDate(parser.getValueAsString());
+		}
+	}
+	
+	/**
+	 * Deserializer of a date sent as epoch milliseconds into the ISO 8601 text of the JSON requests.
+	 */
+	private static final class EpochMillisTextDeserializer extends StdScalarDeserializer<String> {
+		
+		private static final long serialVersionUID = 1L;
+		
+		private EpochMillisTextDeserializer() {
+			super(String.class);
+		}
+		
+		@Override
+		public String deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+			if(parser.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+				return ISO_MILLIS.format(toLocalDateTime(parser.getLongValue()));
+			}
+			return StringDeserializer.instance.deserialize(parser, context);
+		}
+	}
+	
+	/**
+	 * Deserializer of an amount sent as a number into the text of the JSON requests, with the
+	 * same scale.
+	 */
+	private static final class DecimalTextDeserializer extends StdScalarDeserializer<String> {
+		
+		private static final long serialVersionUID = 1L;
+		
+		private DecimalTextDeserializer() {
+			super(String.class);
+		}
+		
+		@Override
+		public String deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+			if(parser.hasToken(JsonToken.VALUE_NUMBER_INT) || parser.hasToken(JsonToken.VALUE_NUMBER_FLOAT)) {
+				return parser.getDecimalValue().toString();
+			}
+			return StringDeserializer.instance.deserialize(parser, context);
+		}
+	}
+	
+	private abstract static class TravelDTOMixIn {
+		
+		@JsonDeserialize(using = DecimalTextDeserializer.class)
+		private String amount;
+		
+		@JsonDeserialize(using = EpochMillisTextDeserializer.class)
+		private String startDate;
+		
+		@JsonDeserialize(using = EpochMillisTextDeserializer.class)
+		private String endDate;
+	}
+
+}
@@ -2,12 +2,24 @@ package io.github.mariazevedo88.travelsapi.service;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import io.github.mariazevedo88.travelsapi.aggregator.StatisticAccumulator;
+import io.github.mariazevedo88.travelsapi.enumeration.TravelTypeEnum;
+import io.github.mariazevedo88.travelsapi.metrics.TravelMetrics;
 import io.github.mariazevedo88.travelsapi.model.Statistic;
 import io.github.mariazevedo88.travelsapi.model.Travel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 /**
  * Service that implements methods related to the statistics.
@@ -18,8 +30,21 @@ import io.github.mariazevedo88.travelsapi.model.Travel;
 @Service
 public class StatisticService {
 	
+	/*
+	 * Below this size, splitting the travels among threads costs more than it saves.
+	 */
+	private static final int PARALLEL_THRESHOLD = 10_000;
+	
+	/*
+	 * Replaced by the application metrics when the service is a Spring bean. The default only
+	 * keeps the service usable when it is created directly, as in the benchmarks.
+	 */
+	@Autowired
+	private TravelMetrics metrics = new TravelMetrics(new SimpleMeterRegistry());
+	
 	/**
-	 * Method that creates statistics based on travels.
+	 * Method that creates statistics based on travels, in a single pass. The amounts are 
+	 * summed exactly, and travels without amount are ignored.
 	 * 
 	 * @author Mariana Azevedo
 	 * @since 14/09/2019
@@ -28,19 +53,137 @@ public class StatisticService {
 	 * @return Statistic
 	 */
 	public Statistic create (List<Travel> travels) {
+		return create(travels, travel -> true);
+	}
+	
+	/**
+	 * Method that creates statistics based on the travels accepted by a filter, in a single pass. 
+	 * Large lists are split and accumulated in parallel, in the common <code>ForkJoinPool</code>.
+	 * The time spent is recorded in the <code>travels.statistics.create</code> timer.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param travels - a list that can be split efficiently, such as an <code>ArrayList</code>
+	 * @param filter
+	 * @return Statistic
+	 */
+	public Statistic create (List<Travel> travels, Predicate<Travel> filter) {
+		return create(travels.spliterator(), travels.size(), filter);
+	}
+	
+	/**
+	 * Method that creates statistics based on the travels of a spliterator accepted by a filter,
+	 * in a single pass, such as the spliterator of the travel's repository, which reads the
+	 * travels from the store without copying them. Large sets of travels are split and 
+	 * accumulated in parallel, in the common <code>ForkJoinPool</code>. The time spent is 
+	 * recorded in the <code>travels.statistics.create</code> timer.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param travels
+	 * @param size - number of travels, which chooses if they are accumulated in parallel
+	 * @param filter
+	 * @return Statistic
+	 */
+	public Statistic create (Spliterator<Travel> travels, long size, Predicate<Travel> filter) {
+		
+		return metrics.timeStatistics(() -> {
+			Stream<Travel> stream = StreamSupport.stream(travels, size >= PARALLEL_THRESHOLD);
+			StatisticAccumulator accumulator = stream.filter(filter)
+					.collect(StatisticAccumulator::new, StatisticAccumulator::accept, StatisticAccumulator::combine);
+			
+			return createFromAggregate(accumulator.toStatistic());
+		});
+	}
+	
+	/**
+	 * Method that creates statistics based on the running aggregate of the travels, 
+	 * in constant time.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param snapshot - aggregate with the sum, max, min and count of the travels
+	 * @return Statistic
+	 */
+	public Statistic createFromAggregate (Statistic snapshot) {
+		return createFromAggregate(snapshot, false);
+	}
+	
+	/**
+	 * Method that creates statistics based on the running aggregate of the travels, 
+	 * in constant time, optionally with the breakdown by travel type.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param snapshot - aggregate with the sum, max, min and count of the travels
+	 * @param groupByType - if the breakdown by type of the snapshot must be returned
+	 * @return Statistic
+	 */
+	public Statistic createFromAggregate (Statistic snapshot, boolean groupByType) {
 		
 		var statistics = new Statistic();
-		statistics.setCount(travels.stream().count());
-		statistics.setAvg(BigDecimal.valueOf(travels.stream().mapToDouble(t -> t.getAmount().doubleValue()).average().orElse(0.0))
-				.setScale(2, RoundingMode.HALF_UP));
-		statistics.setMin(BigDecimal.valueOf(travels.stream().mapToDouble(t -> t.getAmount().doubleValue()).min().orElse(0.0))
-				.setScale(2, RoundingMode.HALF_UP));
-		statistics.setMax(BigDecimal.valueOf(travels.stream().mapToDouble(t -> t.getAmount().doubleValue()).max().orElse(0.0))
-				.setScale(2, RoundingMode.HALF_UP));
-		statistics.setSum(BigDecimal.valueOf(travels.stream().mapToDouble(t -> t.getAmount().doubleValue()).sum())
-				.setScale(2, RoundingMode.HALF_UP));
+		statistics.setCount(snapshot.getCount());
+		statistics.setAvg(snapshot.getCount() == 0 ? round(BigDecimal.ZERO) : 
+			snapshot.getSum().divide(BigDecimal.valueOf(snapshot.getCount()), 2, RoundingMode.HALF_UP));
+		statistics.setMin(round(snapshot.getMin()));
+		statistics.setMax(round(snapshot.getMax()));
+		statistics.setSum(round(snapshot.getSum()));
+		
+		if(groupByType && snapshot.getByType() != null) {
+			Map<TravelTypeEnum, Statistic> byType = new EnumMap<>(TravelTypeEnum.class);
+			snapshot.getByType().forEach((type, statistic) -> byType.put(type, createFromAggregate(statistic)));
+			statistics.setByType(byType);
+		}
 		
 		return statistics;
 	}
+	
+	/**
+	 * Method that parses a time window, such as 60s, 15m or 24h.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param window - a positive number followed by the unit: s (seconds), m (minutes) or h (hours)
+	 * @return Duration
+	 * @throws IllegalArgumentException if the window is not in the expected format
+	 */
+	public Duration parseWindow(String window) {
+		
+		if(window == null || window.length() < 2) {
+			throw new IllegalArgumentException("Invalid window: " + window);
+		}
+		
+		long value;
+		try {
+			value = Long.parseLong(window.substring(0, window.length() - 1));
+		}catch(NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid window: " + window, e);
+		}
+		
+		switch(window.charAt(window.length() - 1)) {
+			case 's': return Duration.ofSeconds(value);
+			case 'm': return Duration.ofMinutes(value);
+			case 'h': return Duration.ofHours(value);
+			default: throw new IllegalArgumentException("Invalid window: " + window);
+		}
+	}
+	
+	/**
+	 * Method that rounds a value to two decimal places. Null values are considered zero.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param value
+	 * @return BigDecimal
+	 */
+	private BigDecimal round(BigDecimal value) {
+		return (value != null ? value : BigDecimal.ZERO).setScale(2, RoundingMode.HALF_UP);
+	}
 
 }
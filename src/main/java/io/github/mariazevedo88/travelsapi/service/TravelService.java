@@ -2,23 +2,53 @@ package io.github.mariazevedo88.travelsapi.service;
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.file.Paths;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import javax.annotation.PreDestroy;
 
 import org.json.simple.JSONObject;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 
+import io.github.mariazevedo88.travelsapi.aggregator.SlidingWindowAggregator;
+import io.github.mariazevedo88.travelsapi.cache.TravelJsonCache;
+import io.github.mariazevedo88.travelsapi.dto.TravelDTO;
+import io.github.mariazevedo88.travelsapi.enumeration.DurabilityModeEnum;
 import io.github.mariazevedo88.travelsapi.enumeration.TravelTypeEnum;
 import io.github.mariazevedo88.travelsapi.factory.TravelFactory;
 import io.github.mariazevedo88.travelsapi.factory.impl.TravelFactoryImpl;
+import io.github.mariazevedo88.travelsapi.metrics.TravelMetrics;
+import io.github.mariazevedo88.travelsapi.model.Statistic;
 import io.github.mariazevedo88.travelsapi.model.Travel;
+import io.github.mariazevedo88.travelsapi.model.TravelBatchItem;
+import io.github.mariazevedo88.travelsapi.model.TravelIngestReport;
+import io.github.mariazevedo88.travelsapi.parser.TravelFieldParser;
+import io.github.mariazevedo88.travelsapi.repository.TravelRepository;
+import io.github.mariazevedo88.travelsapi.repository.impl.ColumnarTravelRepository;
+import io.github.mariazevedo88.travelsapi.repository.impl.InMemoryTravelRepository;
+import io.github.mariazevedo88.travelsapi.repository.impl.MappedTravelRepository;
+import io.github.mariazevedo88.travelsapi.repository.impl.WalTravelRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 /**
  * Service that implements methods related to travels.
@@ -29,9 +59,64 @@ import io.github.mariazevedo88.travelsapi.model.Travel;
 @Service
 public class TravelService {
 	
-	private TravelFactory factory;
+	private static final int MAX_REPORTED_ERRORS = 100;
+	
+	public static final String COLUMNAR_REPOSITORY = "columnar";
+	public static final String MAPPED_REPOSITORY = "mapped";
+	
+	/*
+	 * This service is a singleton shared by all request threads, so the lazily created 
+	 * objects are volatile and created under the service lock.
+	 */
+	private volatile TravelFactory factory;
+	
+	private volatile TravelRepository travelRepository;
+	
+	private final SlidingWindowAggregator windowAggregator = new SlidingWindowAggregator();
+	
+	/*
+	 * Incremented after every write, so a value read before a read of the travels is never 
+	 * newer than the travels read.
+	 */
+	private final AtomicLong version = new AtomicLong();
+	
+	/*
+	 * Replaced by the application metrics when the service is a Spring bean. The default only
+	 * keeps the service usable when it is created directly, as in the benchmarks.
+	 */
+	@Autowired
+	private TravelMetrics metrics = new TravelMetrics(new SimpleMeterRegistry());
+	
+	/*
+	 * The cache is disabled unless it is enabled in the application, which also sets the 
+	 * mapper used to encode the travels.
+	 */
+	@Autowired
+	private TravelJsonCache jsonCache = new TravelJsonCache(false);
+	
+	@Autowired(required = false)
+	private ObjectMapper objectMapper;
+	
+	@Value("${travels.repository:memory}")
+	private String repositoryType;
+	
+	@Value("${travels.repository.file:travels.dat}")
+	private String repositoryFile;
+	
+	@Value("${travels.wal.enabled:false}")
+	private boolean walEnabled;
 	
-	private List<Travel> travels;
+	@Value("${travels.wal.directory:wal}")
+	private String walDirectory;
+	
+	@Value("${travels.wal.durability:per-request}")
+	private String walDurability;
+	
+	@Value("${travels.wal.interval-ms:10}")
+	private long walIntervalMillis;
+	
+	@Value("${travels.wal.snapshot-records:1000000}")
+	private long walSnapshotRecords;
 	
 	/**
 	 * Method to create TripFactory
@@ -41,132 +126,184 @@ public class TravelService {
 	 */
 	public void createFactory() {
 		if(factory == null) {
-			factory = new TravelFactoryImpl();
+			synchronized(this) {
+				if(factory == null) {
+					factory = new TravelFactoryImpl();
+				}
+			}
 		}
 	}
 	
 	/**
-	 * Method to create the travel's list
+	 * Method to create the travel's repository. The property <code>travels.repository</code> selects 
+	 * the repository: <code>columnar</code>, that uses less memory per travel, or <code>mapped</code>, 
+	 * that persists the travels in the file <code>travels.repository.file</code>. By default, the 
+	 * travels are kept in the in-memory repository.
+	 * 
+	 * With <code>travels.wal.enabled=true</code>, every write is also appended to a write-ahead 
+	 * log in <code>travels.wal.directory</code>, that is replayed when the repository is created.
+	 * The <code>mapped</code> repository already persists the travels, so it can't be combined 
+	 * with the log.
 	 * 
 	 * @author Mariana Azevedo
 	 * @since 14/09/2019
+	 * 
+	 * @throws IllegalStateException if the log is enabled with the <code>mapped</code> repository
 	 */
 	public void createTravelList() {
-		if(travels == null) {
-			travels = new ArrayList<>();
+		if(travelRepository == null) {
+			synchronized(this) {
+				if(travelRepository == null) {
+					if(walEnabled && MAPPED_REPOSITORY.equals(repositoryType)) {
+						throw new IllegalStateException("The write-ahead log can't be enabled with the mapped repository.");
+					}
+					
+					TravelRepository repository;
+					if(COLUMNAR_REPOSITORY.equals(repositoryType)) {
+						repository = new ColumnarTravelRepository();
+					}else if(MAPPED_REPOSITORY.equals(repositoryType)) {
+						repository = new MappedTravelRepository(Paths.get(repositoryFile));
+					}else {
+						repository = new InMemoryTravelRepository();
+					}
+					
+					if(walEnabled) {
+						repository = new WalTravelRepository(repository, Paths.get(walDirectory), 
+								DurabilityModeEnum.getEnum(walDurability), walIntervalMillis, walSnapshotRecords);
+					}
+					travelRepository = repository;
+				}
+			}
 		}
 	}
 	
 	/**
-	 * Method that check if JSON is valid.
+	 * Method to parse the id field.
 	 * 
 	 * @author Mariana Azevedo
 	 * @since 14/09/2019
 	 * 
-	 * @param jsonInString
-	 * @return boolean
+	 * @param travel
+	 * @return long
 	 */
-	public boolean isJSONValid(String jsonInString) {
-	    try {
-	       return new ObjectMapper().readTree(jsonInString) != null;
-	    } catch (IOException e) {
-	       return false;
-	    }
+	private long parseId(TravelDTO travel) {
+		if(travel.getId() == null) {
+			metrics.parseFailure("id");
+			throw new IllegalArgumentException("The id is required.");
+		}
+		return travel.getId();
 	}
 	
 	/**
-	 * Method to parse the id field.
+	 * Method to parse a date in the ISO 8601 format YYYY-MM-DDThh:mm:ss.sssZ.
 	 * 
 	 * @author Mariana Azevedo
-	 * @since 14/09/2019
+	 * @since 18/10/2026
 	 * 
-	 * @param travel
-	 * @return long
+	 * @param date
+	 * @return LocalDateTime
 	 */
-	private long parseId(JSONObject travel) {
-		return Long.valueOf((int) travel.get("id"));
+	public LocalDateTime parseDate(String date) {
+		return TravelFieldParser.parseDate(date);
 	}
 	
 	/**
-	 * Method to parse the amount field.
+	 * Method that check if the travel is being finished in the future.
 	 * 
 	 * @author Mariana Azevedo
 	 * @since 14/09/2019
 	 * 
 	 * @param travel
-	 * @return BigDecimal
+	 * @return boolean
 	 */
-	private BigDecimal parseAmount(JSONObject travel) {
-		return new BigDecimal((String) travel.get("amount"));
+	public boolean isStartDateGreaterThanEndDate(Travel travel) {
+		if (travel.getEndDate() == null) return false;
+		return travel.getStartDate().isAfter(travel.getEndDate());
 	}
 	
 	/**
-	 * Method to parse the startDate field.
+	 * Method to fullfil the Travel object
 	 * 
 	 * @author Mariana Azevedo
 	 * @since 14/09/2019
 	 * 
+	 * @param travelDTO
 	 * @param travel
-	 * @return LocalDateTime
 	 */
-	private LocalDateTime parseStartDate(JSONObject travel) {
-		var startDate = (String) travel.get("startDate");
-		DateTimeFormatter formatter = DateTimeFormatter.ISO_INSTANT;
-		return ZonedDateTime.parse(startDate, formatter.withZone(ZoneId.of("UTC"))).toLocalDateTime();
+	private void setTravelValues(TravelDTO travelDTO, Travel travel) {
+		
+		travel.setOrderNumber(travelDTO.getOrderNumber() != null ? travelDTO.getOrderNumber() : travel.getOrderNumber());
+		travel.setAmount(travelDTO.getAmount() != null ? 
+				parseField("amount", travelDTO.getAmount(), TravelFieldParser::parseAmount) : travel.getAmount());
+		travel.setStartDate(travelDTO.getStartDate() != null ? 
+				parseField("startDate", travelDTO.getStartDate(), TravelFieldParser::parseDate) : travel.getStartDate());
+		travel.setEndDate(travelDTO.getEndDate() != null ? 
+				parseField("endDate", travelDTO.getEndDate(), TravelFieldParser::parseDate) : travel.getEndDate());
+		travel.setType(travelDTO.getType() != null ? 
+				parseField("type", travelDTO.getType(), TravelTypeEnum::getEnum) : travel.getType());
 	}
 	
 	/**
-	 * Method to parse the endDate field.
+	 * Method to parse a field, counting the failure by the field's name.
 	 * 
 	 * @author Mariana Azevedo
-	 * @since 14/09/2019
+	 * @since 18/10/2026
 	 * 
-	 * @param travel
-	 * @return LocalDateTime
+	 * @param <T>
+	 * @param field - name of the field, as sent in the JSON
+	 * @param value
+	 * @param parser
+	 * @return T - the value parsed
 	 */
-	private LocalDateTime parseEndDate(JSONObject travel) {
-		var endDate = (String) travel.get("endDate");
-		DateTimeFormatter formatter = DateTimeFormatter.ISO_INSTANT;
-		return ZonedDateTime.parse(endDate, formatter.withZone(ZoneId.of("UTC"))).toLocalDateTime();
+	private <T> T parseField(String field, String value, Function<String, T> parser) {
+		try {
+			return parser.apply(value);
+		}catch(RuntimeException e) {
+			metrics.parseFailure(field);
+			throw e;
+		}
 	}
 	
 	/**
-	 * Method that check if the travel is being finished in the future.
+	 * Method to convert a trip sent as a JSON object to the DTO.
 	 * 
 	 * @author Mariana Azevedo
-	 * @since 14/09/2019
+	 * @since 18/10/2026
 	 * 
-	 * @param travel
-	 * @return boolean
+	 * @param jsonTravel
+	 * @return TravelDTO
 	 */
-	public boolean isStartDateGreaterThanEndDate(Travel travel) {
-		if (travel.getEndDate() == null) return false;
-		return travel.getStartDate().isAfter(travel.getEndDate());
+	private TravelDTO toDTO(JSONObject jsonTravel) {
+		
+		Number id = (Number) jsonTravel.get("id");
+		
+		return new TravelDTO(id != null ? id.longValue() : null, (String) jsonTravel.get("orderNumber"), 
+				(String) jsonTravel.get("amount"), (String) jsonTravel.get("startDate"), 
+				(String) jsonTravel.get("endDate"), (String) jsonTravel.get("type"));
 	}
 	
 	/**
-	 * Method to fullfil the Travel object
+	 * Method to create a trip
 	 * 
 	 * @author Mariana Azevedo
 	 * @since 14/09/2019
 	 * 
-	 * @param jsonTravel
-	 * @param travel
+	 * @param travelDTO
+	 * @return Travel
 	 */
-	private void setTravelValues(JSONObject jsonTravel, Travel travel) {
+	public Travel create(TravelDTO travelDTO) {
 		
-		String orderNumber = (String) jsonTravel.get("orderNumber");
-		String type = (String) jsonTravel.get("type");
+		createFactory();
 		
-		travel.setOrderNumber(orderNumber != null ? orderNumber : travel.getOrderNumber());
-		travel.setAmount(jsonTravel.get("amount") != null ? parseAmount(jsonTravel) : travel.getAmount());
-		travel.setStartDate(jsonTravel.get("startDate") != null ? parseStartDate(jsonTravel) : travel.getStartDate());
-		travel.setEndDate(jsonTravel.get("endDate") != null ? parseEndDate(jsonTravel) : travel.getEndDate());
-		travel.setType(type != null ? TravelTypeEnum.getEnum(type) : travel.getType());
+		Travel travel = factory.createTravel(travelDTO.getType());
+		travel.setId(parseId(travelDTO));
+		setTravelValues(travelDTO, travel);
+		
+		return travel;
 	}
 	
 	/**
-	 * Method to create a trip
+	 * Method to create a trip sent as a JSON object.
 	 * 
 	 * @author Mariana Azevedo
 	 * @since 14/09/2019
@@ -175,18 +312,42 @@ public class TravelService {
 	 * @return Travel
 	 */
 	public Travel create(JSONObject jsonTravel) {
+		return create(toDTO(jsonTravel));
+	}
+	
+	/**
+	 * Method to update a trip. The new values are applied to a copy of the travel stored 
+	 * when the update is made, which replaces it atomically in the repository, so concurrent 
+	 * updates of a trip are not lost.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 14/09/2019
+	 * 
+	 * @param travel
+	 * @param travelDTO
+	 * 
+	 * @return Travel - or null if the travel was deleted before the update
+	 */
+	public Travel update(Travel travel, TravelDTO travelDTO) {
 		
-		createFactory();
+		createTravelList();
+		Travel travelUpdated = travelRepository.computeIfPresent(travel.getId(), stored -> {
+			var copy = new Travel(stored.getId(), stored.getOrderNumber(), stored.getAmount(), 
+					stored.getStartDate(), stored.getEndDate(), stored.getType());
+			setTravelValues(travelDTO, copy);
+			return copy;
+		});
+		if(travelUpdated == null) return null;
 		
-		Travel travel = factory.createTravel((String) jsonTravel.get("type"));
-		travel.setId(parseId(jsonTravel));
-		setTravelValues(jsonTravel, travel);
+		cacheJson(travelUpdated);
+		windowAggregator.add(travelUpdated.getId(), travelUpdated.getAmount());
+		version.incrementAndGet();
 		
-		return travel;
+		return travelUpdated;
 	}
 	
 	/**
-	 * Method to update a trip
+	 * Method to update a trip with the values sent as a JSON object.
 	 * 
 	 * @author Mariana Azevedo
 	 * @since 14/09/2019
@@ -197,13 +358,11 @@ public class TravelService {
 	 * @return Travel
 	 */
 	public Travel update(Travel travel, JSONObject jsonTravel) {
-		
-		setTravelValues(jsonTravel, travel);
-		return travel;
+		return update(travel, toDTO(jsonTravel));
 	}
 
 	/**
-	 * Method that add an object Travel
+	 * Method that add an object Travel, replacing any travel with the same id.
 	 * 
 	 * @author Mariana Azevedo
 	 * @since 14/09/2019
@@ -212,7 +371,204 @@ public class TravelService {
 	 */
 	public void add(Travel travel) {
 		createTravelList();
-		travels.add(travel);
+		travelRepository.save(travel);
+		cacheJson(travel);
+		windowAggregator.add(travel.getId(), travel.getAmount());
+		version.incrementAndGet();
+	}
+
+	/**
+	 * Method that caches the JSON of a travel written, if the JSON cache is enabled. A travel
+	 * that can't be encoded is not cached.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param travel
+	 */
+	private void cacheJson(Travel travel) {
+		
+		if(!jsonCache.isEnabled() || objectMapper == null) return;
+		
+		try {
+			jsonCache.put(travel, objectMapper.writeValueAsBytes(travel));
+		}catch(JsonProcessingException e) {
+			// the travel is serialized when it is read
+		}
+	}
+	
+	/**
+	 * Method that creates and adds a batch of travels. All records are converted and validated
+	 * in a single pass, and the valid ones are added in a single write operation.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param travels - a null element means that the record is not a valid JSON
+	 * @return List - the result of each record, in the order they were sent:
+	 * 
+	 * 201 - Created: the travel was added.
+	 * 400 - Bad Request: the record is not a valid JSON.
+	 * 422 - Unprocessable Entity: if any of the fields are not parsable or the initial date is greater than final date.
+	 */
+	public List<TravelBatchItem> addAll(List<TravelDTO> travels) {
+		
+		createFactory();
+		createTravelList();
+		
+		List<TravelBatchItem> results = new ArrayList<>(travels.size());
+		List<Travel> travelsCreated = new ArrayList<>(travels.size());
+		
+		for(int i = 0; i < travels.size(); i++) {
+			TravelBatchItem item = createItem(i, travels.get(i), travelsCreated::add);
+			metrics.created(item.getStatus());
+			results.add(item);
+		}
+		
+		travelRepository.saveAll(travelsCreated);
+		travelsCreated.forEach(travel -> {
+			cacheJson(travel);
+			windowAggregator.add(travel.getId(), travel.getAmount());
+		});
+		version.incrementAndGet();
+		
+		return results;
+	}
+	
+	/**
+	 * Method that reads travels from a JSON stream and adds them one by one, as they are read.
+	 * Only one record is held in memory at a time, so the heap use doesn't depend on the size
+	 * of the stream. The stream can be a JSON array or a sequence of JSON objects (NDJSON). 
+	 * 
+	 * A syntax error stops the processing, since the rest of the stream can't be trusted.
+	 * The travels added until then are kept.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param parser - a parser with a codec, such as one created by an <code>ObjectMapper</code>
+	 * @return TravelIngestReport - the number of travels accepted and rejected, and the reasons
+	 * of the first rejections
+	 * @throws IOException if the stream can't be read
+	 */
+	public TravelIngestReport addAll(JsonParser parser) throws IOException {
+		
+		createFactory();
+		createTravelList();
+		
+		var report = new TravelIngestReport(0, 0, new ArrayList<>());
+		
+		JsonToken token = nextToken(parser, report, 0);
+		if(token == JsonToken.START_ARRAY) {
+			token = nextToken(parser, report, 0);
+		}
+		
+		for(long index = 0; token != null && token != JsonToken.END_ARRAY; index++) {
+			
+			TravelBatchItem item;
+			if(token == JsonToken.START_OBJECT) {
+				JsonStreamContext records = parser.getParsingContext().getParent();
+				try {
+					item = createItem(index, parser.readValueAs(TravelDTO.class), this::add);
+				}catch(MismatchedInputException e) {
+					metrics.parseFailure(e);
+					while(parser.getParsingContext() != records && parser.nextToken() != null);
+					item = new TravelBatchItem(index, HttpStatus.UNPROCESSABLE_ENTITY.value(), null, 
+							"JSON fields are not parsable. " + e.getOriginalMessage());
+				}catch(JsonProcessingException e) {
+					reject(report, new TravelBatchItem(index, HttpStatus.BAD_REQUEST.value(), null, 
+							"Invalid JSON, the processing was stopped. " + e.getOriginalMessage()));
+					break;
+				}
+			}else {
+				parser.skipChildren();
+				item = new TravelBatchItem(index, HttpStatus.BAD_REQUEST.value(), null, "The record is not a JSON object.");
+			}
+			
+			if(item.getStatus() == HttpStatus.CREATED.value()) {
+				report.setAccepted(report.getAccepted() + 1);
+				metrics.created(item.getStatus());
+			}else {
+				reject(report, item);
+			}
+			
+			token = nextToken(parser, report, index + 1);
+		}
+		
+		return report;
+	}
+	
+	/**
+	 * Method that creates and validates a travel sent in a batch.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param index - position of the record in the batch
+	 * @param travelDTO - null if the record is not a valid JSON
+	 * @param travelsCreated - receives the travel, if it is valid
+	 * @return TravelBatchItem - the result of the record
+	 */
+	private TravelBatchItem createItem(long index, TravelDTO travelDTO, Consumer<Travel> travelsCreated) {
+		
+		if(travelDTO == null) {
+			return new TravelBatchItem(index, HttpStatus.BAD_REQUEST.value(), null, "Invalid JSON.");
+		}
+		
+		try {
+			Travel travel = create(travelDTO);
+			if(isStartDateGreaterThanEndDate(travel)) {
+				return new TravelBatchItem(index, HttpStatus.UNPROCESSABLE_ENTITY.value(), travel.getId(), 
+						"The start date is greater than end date.");
+			}
+			travelRepository.checkStorable(travel);
+			travelsCreated.accept(travel);
+			return new TravelBatchItem(index, HttpStatus.CREATED.value(), travel.getId(), null);
+		}catch(Exception e) {
+			return new TravelBatchItem(index, HttpStatus.UNPROCESSABLE_ENTITY.value(), null, 
+					"JSON fields are not parsable. " + e);
+		}
+	}
+	
+	/**
+	 * Method that reads the next token of a stream, rejecting the record in the index if the 
+	 * stream is not a valid JSON.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param parser
+	 * @param report
+	 * @param index
+	 * @return JsonToken - the next token, or null if the stream ended or is not a valid JSON
+	 * @throws IOException if the stream can't be read
+	 */
+	private JsonToken nextToken(JsonParser parser, TravelIngestReport report, long index) throws IOException {
+		try {
+			return parser.nextToken();
+		}catch(JsonParseException e) {
+			reject(report, new TravelBatchItem(index, HttpStatus.BAD_REQUEST.value(), null, 
+					"Invalid JSON, the processing was stopped. " + e.getOriginalMessage()));
+			return null;
+		}
+	}
+	
+	/**
+	 * Method that counts a rejected record, keeping its reason only while the report has 
+	 * less than <code>MAX_REPORTED_ERRORS</code>, so the report size is bounded.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param report
+	 * @param item
+	 */
+	private void reject(TravelIngestReport report, TravelBatchItem item) {
+		report.setRejected(report.getRejected() + 1);
+		metrics.created(item.getStatus());
+		if(report.getErrors().size() < MAX_REPORTED_ERRORS) {
+			report.getErrors().add(item);
+		}
 	}
 
 	/**
@@ -226,7 +582,111 @@ public class TravelService {
 	 */
 	public List<Travel> find() {
 		createTravelList();
-		return travels;
+		return travelRepository.findAll();
+	}
+	
+	/**
+	 * Method that get a page of trips ordered by id, optionally filtered by type and by 
+	 * a range of start dates.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param after - id of the last trip of the previous page, or null for the first page
+	 * @param limit - maximum number of trips in the page
+	 * @param type - trip type (RETURN, ONE-WAY or MULTI-CITY), or null for all
+	 * @param startFrom - minimum start date (inclusive), or null
+	 * @param startTo - maximum start date (exclusive), or null
+	 * @return List
+	 */
+	public List<Travel> find(Long after, int limit, TravelTypeEnum type, LocalDateTime startFrom, LocalDateTime startTo) {
+		createTravelList();
+		return travelRepository.findPage(after, limit, createFilter(type, startFrom, startTo));
+	}
+	
+	/**
+	 * Method that get a page of the trips active at some moment of the period [from, to], 
+	 * ordered by start date and id, optionally filtered by type and by a range of start dates. 
+	 * One way trips are active only at their start date. The active trips are read from an 
+	 * interval index, so the whole store is not scanned.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param from - start of the period (inclusive)
+	 * @param to - end of the period (inclusive)
+	 * @param afterStart - start date of the last trip of the previous page, or null for the first page
+	 * @param after - id of the last trip of the previous page, or null for the first page
+	 * @param limit - maximum number of trips in the page
+	 * @param type - trip type (RETURN, ONE-WAY or MULTI-CITY), or null for all
+	 * @param startFrom - minimum start date (inclusive), or null
+	 * @param startTo - maximum start date (exclusive), or null
+	 * @return List
+	 */
+	public List<Travel> findActive(LocalDateTime from, LocalDateTime to, LocalDateTime afterStart, Long after, 
+			int limit, TravelTypeEnum type, LocalDateTime startFrom, LocalDateTime startTo) {
+		
+		if(from.isAfter(to)) {
+			throw new IllegalArgumentException("The start of the period is after its end.");
+		}
+		
+		createTravelList();
+		return travelRepository.findActivePage(from, to, afterStart, after, limit, createFilter(type, startFrom, startTo));
+	}
+	
+	/**
+	 * Method that creates a filter of trips by type and by a range of start dates.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param type - trip type, or null for all
+	 * @param startFrom - minimum start date (inclusive), or null
+	 * @param startTo - maximum start date (exclusive), or null
+	 * @return Predicate
+	 */
+	public Predicate<Travel> createFilter(TravelTypeEnum type, LocalDateTime startFrom, LocalDateTime startTo) {
+		
+		Predicate<Travel> filter = travel -> true;
+		if(type != null) {
+			filter = filter.and(travel -> travel.getType() == type);
+		}
+		if(startFrom != null) {
+			filter = filter.and(travel -> travel.getStartDate() != null && !travel.getStartDate().isBefore(startFrom));
+		}
+		if(startTo != null) {
+			filter = filter.and(travel -> travel.getStartDate() != null && travel.getStartDate().isBefore(startTo));
+		}
+		
+		return filter;
+	}
+	
+	/**
+	 * Method that get an iterator over all trips, ordered by id, without copying them. It is
+	 * meant for exporting all trips with bounded memory.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @return Iterator - weakly consistent with the writes made during the iteration
+	 */
+	public Iterator<Travel> iterator() {
+		createTravelList();
+		return travelRepository.iterator();
+	}
+	
+	/**
+	 * Method that get a spliterator over all trips, without copying them, that can be split
+	 * to read the trips in parallel. It is meant for aggregating all trips.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @return Spliterator - weakly consistent with the writes made while it is read
+	 */
+	public Spliterator<Travel> spliterator() {
+		createTravelList();
+		return travelRepository.spliterator();
 	}
 	
 	/**
@@ -236,10 +696,38 @@ public class TravelService {
 	 * @since 14/09/2019
 	 * 
 	 * @param id
-	 * @return Trip
+	 * @return Trip, or null if there is no travel with the id
 	 */
 	public Travel findById(long id) {
-		return travels.stream().filter(t -> id == t.getId()).collect(Collectors.toList()).get(0);
+		createTravelList();
+		return travelRepository.findById(id);
+	}
+	
+	/**
+	 * Method that get travels by order number
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param orderNumber
+	 * @return List
+	 */
+	public List<Travel> findByOrderNumber(String orderNumber) {
+		createTravelList();
+		return travelRepository.findByOrderNumber(orderNumber);
+	}
+	
+	/**
+	 * Method that returns the number of travels stored.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @return long
+	 */
+	public long count() {
+		createTravelList();
+		return travelRepository.count();
 	}
 	
 	/**
@@ -249,7 +737,67 @@ public class TravelService {
 	 * @since 14/09/2019
 	 */
 	public void delete() {
-		travels.clear();
+		createTravelList();
+		travelRepository.deleteAll();
+		jsonCache.clear();
+		windowAggregator.clear();
+		version.incrementAndGet();
+	}
+	
+	/**
+	 * Method that returns the version of the travels, incremented when an add, update or 
+	 * delete is complete. A response built after reading the version includes at least the 
+	 * writes of that version, and is still current while the version doesn't change.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @return long
+	 */
+	public long getVersion() {
+		return version.get();
+	}
+	
+	/**
+	 * Method that returns the running aggregate of the travels' amounts, kept current by 
+	 * the add, update and delete methods.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @return Statistic - sum, max, min and count of the travels, not rounded
+	 */
+	public Statistic getStatistics() {
+		createTravelList();
+		return travelRepository.statistics();
+	}
+	
+	/**
+	 * Method that returns the aggregate of the amounts of the travels written (created or 
+	 * updated) in a time window ending now, such as the last 60 seconds. A travel written
+	 * more than once in the window is aggregated once, with the amount of its last write.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param window - positive and not greater than 24 hours
+	 * @return Statistic - sum, max, min and count of the travels, not rounded
+	 */
+	public Statistic getStatistics(Duration window) {
+		return windowAggregator.toStatistic(window);
+	}
+	
+	/**
+	 * Method that closes the travel's repository, writing any pending change to disk. 
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 */
+	@PreDestroy
+	public void close() {
+		if(travelRepository != null) {
+			travelRepository.close();
+		}
 	}
 	
 	/**
@@ -259,8 +807,12 @@ public class TravelService {
 	 * @since 14/09/2019
 	 */
 	public void clearObjects() {
-		travels = null;
+		close();
+		travelRepository = null;
 		factory = null;
+		jsonCache.clear();
+		windowAggregator.clear();
+		version.incrementAndGet();
 	}
 
 }
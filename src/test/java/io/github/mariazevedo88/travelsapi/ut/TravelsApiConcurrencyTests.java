@@ -0,0 +1,296 @@
+package io.github.mariazevedo88.travelsapi.ut;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.mariazevedo88.travelsapi.enumeration.DurabilityModeEnum;
+import io.github.mariazevedo88.travelsapi.enumeration.TravelTypeEnum;
+import io.github.mariazevedo88.travelsapi.model.Statistic;
+import io.github.mariazevedo88.travelsapi.model.Travel;
+import io.github.mariazevedo88.travelsapi.repository.TravelRepository;
+import io.github.mariazevedo88.travelsapi.repository.impl.ColumnarTravelRepository;
+import io.github.mariazevedo88.travelsapi.repository.impl.InMemoryTravelRepository;
+import io.github.mariazevedo88.travelsapi.repository.impl.MappedTravelRepository;
+import io.github.mariazevedo88.travelsapi.repository.impl.WalTravelRepository;
+
+/**
+ * Class that implements stress tests of the travel stores with concurrent writers.
+ * 
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public class TravelsApiConcurrencyTests {
+	
+	private static final int WRITERS = 64;
+	private static final int TRAVELS_PER_WRITER = 2_000;
+	private static final int MOVED_PER_WRITER = 200;
+	private static final int ACTIVE_PAGE_SIZE = 500;
+	
+	private static final Comparator<Travel> ACTIVE_ORDER = Comparator.comparing(Travel::getStartDate).thenComparing(Travel::getId);
+	
+	private ExecutorService executor;
+	
+	static Stream<TravelRepository> repositories() throws IOException {
+		
+		Path file = Files.createTempFile("travels", ".dat");
+		file.toFile().deleteOnExit();
+		Path directory = Files.createTempDirectory("wal");
+		directory.toFile().deleteOnExit();
+		
+		return Stream.of(new InMemoryTravelRepository(), new ColumnarTravelRepository(), new MappedTravelRepository(file), 
+				new WalTravelRepository(new InMemoryTravelRepository(), directory, DurabilityModeEnum.PER_REQUEST, 0, 50_000));
+	}
+	
+	@BeforeEach
+	public void setUp() {
+		executor = Executors.newFixedThreadPool(WRITERS + 1);
+	}
+	
+	@ParameterizedTest
+	@MethodSource("repositories")
+	public void shouldNotLoseInsertsOfConcurrentWriters(TravelRepository repository) throws Exception {
+		
+		AtomicBoolean writing = new AtomicBoolean(true);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> writers = new ArrayList<>();
+		
+		for(int w = 0; w < WRITERS; w++) {
+			long firstId = (long) w * TRAVELS_PER_WRITER;
+			writers.add(executor.submit(() -> {
+				start.await();
+				for(long id = firstId; id < firstId + TRAVELS_PER_WRITER; id++) {
+					repository.save(createTravel(id, "ORDER-" + (id % 100), BigDecimal.ONE));
+				}
+				return null;
+			}));
+		}
+		
+		Future<?> reader = executor.submit((Callable<Void>) () -> {
+			start.await();
+			while(writing.get()) {
+				Statistic statistic = repository.statistics();
+				assertEquals(statistic.getCount(), statistic.getSum().longValue());
+				assertTrue(repository.findAll().size() >= statistic.getCount());
+			}
+			return null;
+		});
+		
+		start.countDown();
+		for(Future<?> writer : writers) {
+			writer.get(60, TimeUnit.SECONDS);
+		}
+		writing.set(false);
+		reader.get(60, TimeUnit.SECONDS);
+		
+		long expected = (long) WRITERS * TRAVELS_PER_WRITER;
+		assertEquals(expected, repository.count());
+		assertEquals(expected, repository.findAll().size());
+		assertEquals(expected, repository.statistics().getSum().longValue());
+		assertEquals(expected / 100, repository.findByOrderNumber("ORDER-42").size());
+	}
+	
+	@ParameterizedTest
+	@MethodSource("repositories")
+	public void shouldKeepIndexesAndStatisticsConsistentWithConcurrentUpdates(TravelRepository repository) throws Exception {
+		
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> writers = new ArrayList<>();
+		
+		for(int w = 0; w < WRITERS; w++) {
+			BigDecimal amount = BigDecimal.valueOf(w + 1);
+			String orderNumber = "WRITER-" + w;
+			writers.add(executor.submit(() -> {
+				start.await();
+				for(long id = 0; id < TRAVELS_PER_WRITER; id++) {
+					repository.save(createTravel(id, orderNumber, amount));
+				}
+				return null;
+			}));
+		}
+		
+		start.countDown();
+		for(Future<?> writer : writers) {
+			writer.get(60, TimeUnit.SECONDS);
+		}
+		
+		List<Travel> travels = repository.findAll();
+		BigDecimal sum = travels.stream().map(Travel::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
+		int indexed = 0;
+		for(int w = 0; w < WRITERS; w++) {
+			indexed += repository.findByOrderNumber("WRITER-" + w).size();
+		}
+		
+		assertEquals(TRAVELS_PER_WRITER, travels.size());
+		assertEquals(TRAVELS_PER_WRITER, repository.statistics().getCount());
+		assertEquals(0, sum.compareTo(repository.statistics().getSum()));
+		assertEquals(TRAVELS_PER_WRITER, indexed);
+	}
+	
+	@ParameterizedTest
+	@MethodSource("repositories")
+	public void shouldNotLoseConcurrentUpdatesOfTheSameTravel(TravelRepository repository) throws Exception {
+		
+		repository.save(createTravel(1L, "COUNTER", BigDecimal.ZERO));
+		
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> writers = new ArrayList<>();
+		
+		for(int w = 0; w < WRITERS; w++) {
+			writers.add(executor.submit(() -> {
+				start.await();
+				for(int i = 0; i < MOVED_PER_WRITER; i++) {
+					repository.computeIfPresent(1L, travel -> createTravel(travel.getId(), travel.getOrderNumber(), 
+							travel.getAmount().add(BigDecimal.ONE)));
+				}
+				return null;
+			}));
+		}
+		
+		start.countDown();
+		for(Future<?> writer : writers) {
+			writer.get(60, TimeUnit.SECONDS);
+		}
+		
+		BigDecimal expected = BigDecimal.valueOf(WRITERS * MOVED_PER_WRITER);
+		assertEquals(0, expected.compareTo(repository.findById(1L).getAmount()));
+		assertEquals(0, expected.compareTo(repository.statistics().getSum()));
+		assertEquals(1, repository.findByOrderNumber("COUNTER").size());
+		assertNull(repository.computeIfPresent(2L, travel -> travel));
+	}
+	
+	@ParameterizedTest
+	@MethodSource("repositories")
+	public void shouldReturnActiveTravelsWhileWritersChangeThePeriods(TravelRepository repository) throws Exception {
+		
+		LocalDateTime from = LocalDateTime.of(2019, 11, 21, 0, 0);
+		LocalDateTime to = from.plusDays(1);
+		LocalDateTime outside = from.minusDays(10);
+		
+		for(long id = 0; id < TRAVELS_PER_WRITER; id++) {
+			repository.save(new Travel(id, "STABLE", BigDecimal.ONE, from.plusMinutes(id % 1440), null, TravelTypeEnum.ONE_WAY));
+		}
+		
+		AtomicBoolean writing = new AtomicBoolean(true);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> writers = new ArrayList<>();
+		
+		for(int w = 0; w < WRITERS; w++) {
+			long firstId = (long) (w + 1) * TRAVELS_PER_WRITER;
+			writers.add(executor.submit(() -> {
+				start.await();
+				for(long id = firstId; id < firstId + MOVED_PER_WRITER; id++) {
+					repository.save(new Travel(id, "MOVED", BigDecimal.ONE, outside, outside.plusDays(1), TravelTypeEnum.RETURN));
+					repository.save(new Travel(id, "MOVED", BigDecimal.ONE, outside, to, TravelTypeEnum.RETURN));
+				}
+				return null;
+			}));
+		}
+		
+		Future<?> reader = executor.submit((Callable<Void>) () -> {
+			start.await();
+			while(writing.get()) {
+				List<Travel> active = findAllActive(repository, from, to);
+				assertEquals(TRAVELS_PER_WRITER, active.stream().filter(t -> t.getId() < TRAVELS_PER_WRITER).count());
+				for(int i = 1; i < active.size(); i++) {
+					assertTrue(ACTIVE_ORDER.compare(active.get(i - 1), active.get(i)) < 0);
+				}
+			}
+			return null;
+		});
+		
+		start.countDown();
+		for(Future<?> writer : writers) {
+			writer.get(60, TimeUnit.SECONDS);
+		}
+		writing.set(false);
+		reader.get(60, TimeUnit.SECONDS);
+		
+		assertEquals(TRAVELS_PER_WRITER + WRITERS * MOVED_PER_WRITER, findAllActive(repository, from, to).size());
+		assertEquals(WRITERS * MOVED_PER_WRITER, findAllActive(repository, to, to.plusDays(1)).size());
+	}
+	
+	@Test
+	public void shouldReplayTheConcurrentUpdatesInTheOrderTheyWereApplied(@TempDir Path directory) throws Exception {
+		
+		TravelRepository repository = new WalTravelRepository(new InMemoryTravelRepository(), directory, 
+				DurabilityModeEnum.OS_BUFFERED, 0, 10_000);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> writers = new ArrayList<>();
+		
+		for(int w = 0; w < WRITERS; w++) {
+			BigDecimal amount = BigDecimal.valueOf(w + 1);
+			String orderNumber = "WRITER-" + w;
+			writers.add(executor.submit(() -> {
+				start.await();
+				for(long id = 0; id < TRAVELS_PER_WRITER; id++) {
+					repository.save(createTravel(id, orderNumber, amount));
+				}
+				return null;
+			}));
+		}
+		
+		start.countDown();
+		for(Future<?> writer : writers) {
+			writer.get(60, TimeUnit.SECONDS);
+		}
+		
+		List<Travel> travels = repository.findAll();
+		repository.close();
+		
+		TravelRepository replayed = new WalTravelRepository(new InMemoryTravelRepository(), directory, 
+				DurabilityModeEnum.OS_BUFFERED, 0, 10_000);
+		assertEquals(TRAVELS_PER_WRITER, replayed.count());
+		for(Travel travel : travels) {
+			assertEquals(travel.getOrderNumber(), replayed.findById(travel.getId()).getOrderNumber());
+			assertEquals(travel.getAmount(), replayed.findById(travel.getId()).getAmount());
+		}
+		replayed.close();
+	}
+	
+	@AfterEach
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+	
+	private Travel createTravel(long id, String orderNumber, BigDecimal amount) {
+		return new Travel(id, orderNumber, amount, LocalDateTime.now(), null, TravelTypeEnum.ONE_WAY);
+	}
+	
+	private static List<Travel> findAllActive(TravelRepository repository, LocalDateTime from, LocalDateTime to) {
+		
+		List<Travel> active = new ArrayList<>();
+		List<Travel> page = repository.findActivePage(from, to, null, null, ACTIVE_PAGE_SIZE, travel -> true);
+		while(!page.isEmpty()) {
+			active.addAll(page);
+			Travel last = page.get(page.size() - 1);
+			page = repository.findActivePage(from, to, last.getStartDate(), last.getId(), ACTIVE_PAGE_SIZE, travel -> true);
+		}
+		return active;
+	}
+
+}
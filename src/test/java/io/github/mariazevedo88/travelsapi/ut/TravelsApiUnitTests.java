@@ -1,10 +1,40 @@
 package io.github.mariazevedo88.travelsapi.ut;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 
 import org.json.simple.JSONObject;
 import org.junit.jupiter.api.AfterAll;
@@ -13,15 +43,35 @@ import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.mariazevedo88.travelsapi.aggregator.AmountSum;
+import io.github.mariazevedo88.travelsapi.aggregator.SlidingWindowAggregator;
+import io.github.mariazevedo88.travelsapi.aggregator.StatisticAggregator;
+import io.github.mariazevedo88.travelsapi.compression.CompressionFilter;
+import io.github.mariazevedo88.travelsapi.config.JacksonConfiguration;
+import io.github.mariazevedo88.travelsapi.enumeration.DurabilityModeEnum;
 import io.github.mariazevedo88.travelsapi.enumeration.TravelTypeEnum;
 import io.github.mariazevedo88.travelsapi.model.Statistic;
 import io.github.mariazevedo88.travelsapi.model.Travel;
+import io.github.mariazevedo88.travelsapi.parser.TravelFieldParser;
+import io.github.mariazevedo88.travelsapi.repository.TravelRepository;
+import io.github.mariazevedo88.travelsapi.repository.impl.ColumnarTravelRepository;
+import io.github.mariazevedo88.travelsapi.repository.impl.InMemoryTravelRepository;
+import io.github.mariazevedo88.travelsapi.repository.impl.MappedTravelRepository;
+import io.github.mariazevedo88.travelsapi.repository.impl.WalTravelRepository;
 import io.github.mariazevedo88.travelsapi.service.StatisticService;
 import io.github.mariazevedo88.travelsapi.service.TravelService;
 
@@ -142,6 +192,581 @@ public class TravelsApiUnitTests {
 		assertEquals(2, statistic.getCount());
 	}
 	
+	@Test
+	@Order(6)
+	@SuppressWarnings("unchecked")
+	public void shouldReturnIncrementalStatisticsKeptCurrent() throws Exception {
+		
+		Statistic statistic = statisticService.createFromAggregate(travelsService.getStatistics());
+		
+		assertEquals("142.88", statistic.getSum().toString());
+		assertEquals("71.44", statistic.getAvg().toString());
+		assertEquals("22.88", statistic.getMin().toString());
+		assertEquals("120.00", statistic.getMax().toString());
+		assertEquals(2, statistic.getCount());
+		assertNull(statistic.getByType());
+		
+		statistic = statisticService.createFromAggregate(travelsService.getStatistics(), true);
+		
+		assertEquals("22.88", statistic.getByType().get(TravelTypeEnum.RETURN).getSum().toString());
+		assertEquals("120.00", statistic.getByType().get(TravelTypeEnum.ONE_WAY).getSum().toString());
+		assertEquals(0, statistic.getByType().get(TravelTypeEnum.MULTI_CITY).getCount());
+		
+		JSONObject jsonTravel = new JSONObject();
+		jsonTravel.put("amount", "50.00");
+		jsonTravel.put("type", TravelTypeEnum.MULTI_CITY.getValue());
+		
+		travelsService.update(travelsService.findById(1), jsonTravel);
+		statistic = statisticService.createFromAggregate(travelsService.getStatistics());
+		
+		assertEquals("170.00", statistic.getSum().toString());
+		assertEquals("85.00", statistic.getAvg().toString());
+		assertEquals("50.00", statistic.getMin().toString());
+		assertEquals("120.00", statistic.getMax().toString());
+		assertEquals(2, statistic.getCount());
+		
+		statistic = statisticService.createFromAggregate(travelsService.getStatistics(), true);
+		
+		assertEquals(0, statistic.getByType().get(TravelTypeEnum.RETURN).getCount());
+		assertEquals("50.00", statistic.getByType().get(TravelTypeEnum.MULTI_CITY).getSum().toString());
+		
+		travelsService.delete();
+		statistic = statisticService.createFromAggregate(travelsService.getStatistics());
+		
+		assertEquals("0.00", statistic.getSum().toString());
+		assertEquals("0.00", statistic.getAvg().toString());
+		assertEquals("0.00", statistic.getMin().toString());
+		assertEquals("0.00", statistic.getMax().toString());
+		assertEquals(0, statistic.getCount());
+	}
+	
+	@Test
+	@Order(7)
+	@SuppressWarnings("unchecked")
+	public void shouldReturnTravelsFoundByIdAndOrderNumber() throws Exception {
+		
+		JSONObject jsonTravel = new JSONObject();
+		jsonTravel.put("id", 3);
+		jsonTravel.put("orderNumber", "220788");
+		jsonTravel.put("amount", "22.88");
+		jsonTravel.put("type", TravelTypeEnum.ONE_WAY.getValue());
+		jsonTravel.put("startDate", "2019-11-21T09:59:51.312Z");
+		
+		travelsService.add(travelsService.create(jsonTravel));
+		
+		assertNull(travelsService.findById(4));
+		assertEquals("220788", travelsService.findById(3).getOrderNumber());
+		assertEquals(1, travelsService.findByOrderNumber("220788").size());
+		
+		JSONObject jsonToUpdate = new JSONObject();
+		jsonToUpdate.put("orderNumber", "300691");
+		
+		travelsService.update(travelsService.findById(3), jsonToUpdate);
+		
+		assertTrue(travelsService.findByOrderNumber("220788").isEmpty());
+		assertEquals(3L, travelsService.findByOrderNumber("300691").get(0).getId().longValue());
+		assertEquals(1, travelsService.find().size());
+		
+		travelsService.delete();
+	}
+	
+	@Test
+	@Order(8)
+	public void shouldReturnStatisticsOfSlidingWindows() throws Exception {
+		
+		AtomicLong now = new AtomicLong(Instant.parse("2019-11-21T09:59:51.312Z").toEpochMilli());
+		SlidingWindowAggregator aggregator = new SlidingWindowAggregator(now::get);
+		
+		aggregator.add(1, new BigDecimal("120.00"));
+		now.addAndGet(Duration.ofSeconds(30).toMillis());
+		aggregator.add(2, new BigDecimal("22.88"));
+		now.addAndGet(Duration.ofSeconds(45).toMillis());
+		aggregator.add(3, new BigDecimal("10.12"));
+		
+		Statistic lastMinute = statisticService.createFromAggregate(aggregator.toStatistic(statisticService.parseWindow("60s")));
+		assertEquals("33.00", lastMinute.getSum().toString());
+		assertEquals("10.12", lastMinute.getMin().toString());
+		assertEquals("22.88", lastMinute.getMax().toString());
+		assertEquals(2, lastMinute.getCount());
+		
+		Statistic lastHour = statisticService.createFromAggregate(aggregator.toStatistic(statisticService.parseWindow("1h")));
+		assertEquals("153.00", lastHour.getSum().toString());
+		assertEquals("51.00", lastHour.getAvg().toString());
+		assertEquals(3, lastHour.getCount());
+		
+		aggregator.add(2, new BigDecimal("5.00"));
+		aggregator.add(1, new BigDecimal("40.00"));
+		
+		lastMinute = statisticService.createFromAggregate(aggregator.toStatistic(statisticService.parseWindow("60s")));
+		assertEquals("55.12", lastMinute.getSum().toString());
+		assertEquals("5.00", lastMinute.getMin().toString());
+		assertEquals("40.00", lastMinute.getMax().toString());
+		assertEquals(3, lastMinute.getCount());
+		
+		lastHour = statisticService.createFromAggregate(aggregator.toStatistic(statisticService.parseWindow("1h")));
+		assertEquals("55.12", lastHour.getSum().toString());
+		assertEquals("40.00", lastHour.getMax().toString());
+		assertEquals(3, lastHour.getCount());
+		
+		now.addAndGet(Duration.ofHours(24).toMillis());
+		aggregator.add(3, new BigDecimal("1.00"));
+		assertEquals(1, aggregator.toStatistic(statisticService.parseWindow("24h")).getCount());
+		
+		now.addAndGet(Duration.ofHours(24).toMillis());
+		assertEquals(0, aggregator.toStatistic(statisticService.parseWindow("24h")).getCount());
+	}
+	
+	@Test
+	@Order(9)
+	public void shouldReturnExactSumsOfAmounts() throws Exception {
+		
+		AmountSum sum = new AmountSum();
+		sum.add(new BigDecimal("92233720368547758.07"));
+		sum.add(new BigDecimal("92233720368547758.07"));
+		sum.add(new BigDecimal("0.001"));
+		sum.add(new BigDecimal("0.1"));
+		
+		assertEquals(0, new BigDecimal("184467440737095516.241").compareTo(sum.toBigDecimal()));
+		
+		sum.subtract(new BigDecimal("92233720368547758.07"));
+		sum.subtract(new BigDecimal("0.001"));
+		
+		assertEquals(0, new BigDecimal("92233720368547758.17").compareTo(sum.toBigDecimal()));
+		
+		List<Travel> travels = new ArrayList<>();
+		for(int i = 0; i < 10; i++) {
+			travels.add(new Travel((long) i, null, new BigDecimal("0.10"), null, null, TravelTypeEnum.ONE_WAY));
+		}
+		
+		Statistic statistic = statisticService.create(travels);
+		assertEquals("1.00", statistic.getSum().toString());
+		assertEquals("0.10", statistic.getAvg().toString());
+		assertEquals(10, statistic.getCount());
+	}
+	
+	@Test
+	@Order(10)
+	public void shouldReturnFilteredStatisticsCalculatedInParallel() throws Exception {
+		
+		LocalDateTime startDate = ZonedDateTime.parse("2019-11-21T09:59:51.312Z").toLocalDateTime();
+		List<Travel> travels = new ArrayList<>();
+		for(int i = 1; i <= 100_000; i++) {
+			TravelTypeEnum type = i % 2 == 0 ? TravelTypeEnum.RETURN : TravelTypeEnum.ONE_WAY;
+			travels.add(new Travel((long) i, null, BigDecimal.valueOf(i, 2), startDate.plusHours(i), null, type));
+		}
+		
+		Statistic statistic = statisticService.create(travels, 
+				travelsService.createFilter(TravelTypeEnum.RETURN, null, startDate.plusHours(1001)));
+		
+		assertEquals(500, statistic.getCount());
+		assertEquals("2505.00", statistic.getSum().toString());
+		assertEquals("5.01", statistic.getAvg().toString());
+		assertEquals("0.02", statistic.getMin().toString());
+		assertEquals("10.00", statistic.getMax().toString());
+		
+		statistic = statisticService.create(travels);
+		
+		assertEquals(100_000, statistic.getCount());
+		assertEquals("50000500.00", statistic.getSum().toString());
+		
+		for(TravelRepository repository : List.of(new InMemoryTravelRepository(), new ColumnarTravelRepository())) {
+			
+			repository.saveAll(travels);
+			statistic = statisticService.create(repository.spliterator(), repository.count(), 
+					travelsService.createFilter(TravelTypeEnum.RETURN, null, startDate.plusHours(1001)));
+			
+			assertEquals(500, statistic.getCount());
+			assertEquals("2505.00", statistic.getSum().toString());
+			assertEquals("0.02", statistic.getMin().toString());
+			assertEquals("10.00", statistic.getMax().toString());
+			
+			statistic = statisticService.create(repository.spliterator(), repository.count(), travel -> true);
+			assertEquals(100_000, statistic.getCount());
+			assertEquals("50000500.00", statistic.getSum().toString());
+		}
+	}
+	
+	@Test
+	@Order(11)
+	public void shouldReturnTravelsStoredInColumns() throws Exception {
+		
+		TravelRepository repository = new ColumnarTravelRepository();
+		LocalDateTime startDate = ZonedDateTime.parse("2019-11-21T09:59:51.312Z").toLocalDateTime();
+		
+		for(long id = 5000; id > 0; id--) {
+			repository.save(new Travel(id, "ORDER-" + (id % 10), BigDecimal.valueOf(id, 2), startDate, null, TravelTypeEnum.ONE_WAY));
+		}
+		
+		Travel previous = repository.save(new Travel(7L, "ORDER-X", new BigDecimal("123456789012345678901.5"), 
+				startDate, startDate.plusDays(1), TravelTypeEnum.RETURN));
+		
+		assertEquals("0.07", previous.getAmount().toString());
+		assertEquals(5000, repository.count());
+		assertEquals(499, repository.findByOrderNumber("ORDER-7").size());
+		
+		Travel travel = repository.findById(7);
+		assertEquals("ORDER-X", travel.getOrderNumber());
+		assertEquals("123456789012345678901.5", travel.getAmount().toString());
+		assertEquals(startDate, travel.getStartDate());
+		assertEquals(startDate.plusDays(1), travel.getEndDate());
+		assertEquals(TravelTypeEnum.RETURN, travel.getType());
+		assertNull(repository.findById(1).getEndDate());
+		assertEquals("0.10", repository.findById(10).getAmount().toString());
+		
+		repository.save(new Travel(5001L, null, BigDecimal.ONE, startDate, null, TravelTypeEnum.MULTI_CITY));
+		
+		List<Travel> page = repository.findPage(4990L, 100, t -> true);
+		assertEquals(11, page.size());
+		assertEquals(Long.valueOf(4991), page.get(0).getId());
+		assertEquals(Long.valueOf(5001), page.get(10).getId());
+		
+		long expectedId = 1;
+		for(var iterator = repository.iterator(); iterator.hasNext(); expectedId++) {
+			assertEquals(Long.valueOf(expectedId), iterator.next().getId());
+		}
+		assertEquals(5002, expectedId);
+		
+		assertEquals(1, repository.statistics().getByType().get(TravelTypeEnum.RETURN).getCount());
+		assertEquals(5001, repository.statistics().getCount());
+		
+		repository.deleteAll();
+		assertEquals(0, repository.count());
+		assertNull(repository.findById(7));
+		assertTrue(repository.findAll().isEmpty());
+		
+		List<Long> ids = new ArrayList<>();
+		for(long id = 1; id <= 20_000; id++) {
+			ids.add(id % 3 == 0 ? id + 1_000_000 : id);
+		}
+		Collections.shuffle(ids, new Random(11));
+		for(int i = 0; i < ids.size(); i++) {
+			repository.save(new Travel(ids.get(i), null, BigDecimal.ONE, startDate, null, TravelTypeEnum.ONE_WAY));
+			if(i % 997 == 0) {
+				long[] sorted = ids.subList(0, i + 1).stream().mapToLong(Long::longValue).sorted().toArray();
+				assertArrayEquals(sorted, repository.findAll().stream().mapToLong(Travel::getId).toArray());
+			}
+		}
+		ids.sort(null);
+		assertEquals(ids, repository.findPage(null, ids.size(), t -> true).stream().map(Travel::getId).collect(Collectors.toList()));
+	}
+	
+	@Test
+	@Order(12)
+	public void shouldReturnTravelsStoredInFileAfterRestart(@TempDir Path directory) throws Exception {
+		
+		Path file = directory.resolve("travels.dat");
+		LocalDateTime startDate = ZonedDateTime.parse("2019-11-21T09:59:51.312Z").toLocalDateTime();
+		
+		TravelRepository repository = new MappedTravelRepository(file);
+		for(long id = 1; id <= 100_000; id++) {
+			repository.save(new Travel(id, "ORDER-" + (id % 1000), BigDecimal.valueOf(id, 2), startDate, null, TravelTypeEnum.ONE_WAY));
+		}
+		repository.save(new Travel(42L, "ÓRDER-42", new BigDecimal("10.5"), startDate, startDate.plusDays(2), TravelTypeEnum.RETURN));
+		repository.close();
+		
+		repository = new MappedTravelRepository(file);
+		
+		assertEquals(100_000, repository.count());
+		assertEquals(99, repository.findByOrderNumber("ORDER-42").size());
+		assertEquals(0, new BigDecimal("50000510.08").compareTo(repository.statistics().getSum()));
+		
+		Travel travel = repository.findById(42);
+		assertEquals("ÓRDER-42", travel.getOrderNumber());
+		assertEquals("10.5", travel.getAmount().toString());
+		assertEquals(startDate.plusDays(2), travel.getEndDate());
+		assertEquals(TravelTypeEnum.RETURN, travel.getType());
+		assertEquals(Long.valueOf(99_999), repository.findPage(99_998L, 10, t -> true).get(0).getId());
+		
+		try {
+			repository.save(new Travel(1L, "X".repeat(61), BigDecimal.ONE, startDate, null, TravelTypeEnum.ONE_WAY));
+			assertTrue(false);
+		}catch(IllegalArgumentException e) {
+			assertEquals("0.01", repository.findById(1).getAmount().toString());
+		}
+		
+		repository.deleteAll();
+		repository.close();
+		
+		repository = new MappedTravelRepository(file);
+		assertEquals(0, repository.count());
+		repository.close();
+	}
+	
+	@Test
+	@Order(13)
+	public void shouldReturnTravelsReplayedFromWriteAheadLog(@TempDir Path directory) throws Exception {
+		
+		LocalDateTime startDate = ZonedDateTime.parse("2019-11-21T09:59:51.312Z").toLocalDateTime();
+		
+		for(DurabilityModeEnum durability : DurabilityModeEnum.values()) {
+			
+			Path logDirectory = directory.resolve(durability.getValue());
+			TravelRepository repository = new WalTravelRepository(new InMemoryTravelRepository(), logDirectory, durability, 1, 1000);
+			
+			repository.save(new Travel(1L, "ORDER-1", new BigDecimal("1.5"), startDate, null, TravelTypeEnum.ONE_WAY));
+			repository.deleteAll();
+			for(long id = 1; id <= 2500; id++) {
+				repository.save(new Travel(id, "ORDER-" + (id % 10), BigDecimal.valueOf(id, 2), startDate, null, TravelTypeEnum.ONE_WAY));
+			}
+			List<Travel> batch = new ArrayList<>();
+			for(long id = 2501; id <= 3000; id++) {
+				batch.add(new Travel(id, null, null, startDate.plusNanos(id), startDate.plusDays(1), TravelTypeEnum.RETURN));
+			}
+			repository.saveAll(batch);
+			repository.save(new Travel(7L, "ORDER-X", new BigDecimal("123456789012345678901234567890.123"), startDate, null, null));
+			repository.close();
+			
+			repository = new WalTravelRepository(new InMemoryTravelRepository(), logDirectory, durability, 1, 1000);
+			
+			assertEquals(3000, repository.count());
+			assertEquals(249, repository.findByOrderNumber("ORDER-7").size());
+			assertEquals("123456789012345678901234567890.123", repository.findById(7).getAmount().toString());
+			assertNull(repository.findById(7).getType());
+			assertEquals(startDate.plusNanos(2750), repository.findById(2750).getStartDate());
+			assertNull(repository.findById(2750).getAmount());
+			assertEquals(TravelTypeEnum.RETURN, repository.findById(2750).getType());
+			assertEquals(2500, repository.statistics().getCount());
+			repository.close();
+			
+			try(var files = Files.list(logDirectory)) {
+				assertTrue(files.filter(file -> file.getFileName().toString().startsWith("wal-")).count() < 4);
+			}
+		}
+		
+		Path logDirectory = directory.resolve(DurabilityModeEnum.PER_REQUEST.getValue());
+		try(var files = Files.list(logDirectory)) {
+			Path lastSegment = files.filter(file -> file.getFileName().toString().startsWith("wal-")).sorted()
+					.reduce((first, second) -> second).get();
+			Files.write(lastSegment, new byte[] { 0, 0, 0, 100, 1, 2, 3 }, StandardOpenOption.APPEND);
+		}
+		
+		TravelRepository repository = new WalTravelRepository(new InMemoryTravelRepository(), logDirectory, 
+				DurabilityModeEnum.PER_REQUEST, 1, 1000);
+		assertEquals(3000, repository.count());
+		repository.close();
+		
+		TravelRepository mapped = new MappedTravelRepository(directory.resolve("travels.dat"));
+		mapped.save(new Travel(1L, "ORDER-1", BigDecimal.ONE, startDate, null, TravelTypeEnum.ONE_WAY));
+		try {
+			new WalTravelRepository(mapped, logDirectory, DurabilityModeEnum.PER_REQUEST, 1, 1000);
+			assertTrue(false);
+		}catch(IllegalStateException e) {
+			assertEquals(1, mapped.count());
+		}finally {
+			mapped.close();
+		}
+	}
+	
+	@Test
+	@Order(14)
+	public void shouldReturnFieldsParsedAsTheGeneralParsers() throws Exception {
+		
+		DateTimeFormatter formatter = DateTimeFormatter.ISO_INSTANT.withZone(ZoneId.of("UTC"));
+		String[] dates = { "2019-11-21T09:59:51.312Z", "2020-02-29T23:59:59.999Z", "0001-01-01T00:00:00.000Z", 
+				"2019-11-21T09:59:51Z", "2019-11-21T09:59:51.3Z", "2019-11-21T09:59:51.312456Z", "2019-11-21T24:00:00.000Z" };
+		for(String date : dates) {
+			assertEquals(ZonedDateTime.parse(date, formatter).toLocalDateTime(), TravelFieldParser.parseDate(date));
+		}
+		
+		String[] invalidDates = { "2019-02-29T09:59:51.312Z", "2019-11-21T25:00:00.000Z", "2019-11-21 09:59:51.312Z", 
+				"2019-13-21T09:59:51.312Z", "2019-11-21T09:59:51.31xZ", "" };
+		for(String date : invalidDates) {
+			try {
+				TravelFieldParser.parseDate(date);
+				assertTrue(date, false);
+			}catch(DateTimeParseException e) {
+				assertNotNull(e.getMessage());
+			}
+		}
+		
+		String[] amounts = { "22.88", "120.0", "0", "-0.50", "+7", ".5", "1.", "999999999999999999", 
+				"9999999999999999999.99", "1E+3", "0.000000000000000000001", "00012.3400" };
+		for(String amount : amounts) {
+			BigDecimal parsed = TravelFieldParser.parseAmount(amount);
+			assertEquals(new BigDecimal(amount), parsed);
+			assertEquals(new BigDecimal(amount).scale(), parsed.scale());
+		}
+		
+		String[] invalidAmounts = { "", "-", ".", "1.2.3", "12a", "1,5" };
+		for(String amount : invalidAmounts) {
+			try {
+				TravelFieldParser.parseAmount(amount);
+				assertTrue(amount, false);
+			}catch(NumberFormatException e) {
+				assertNotNull(e);
+			}
+		}
+	}
+	
+	@Test
+	@Order(15)
+	public void shouldReturnTravelsActiveInPeriodFromIntervalIndex() throws Exception {
+		
+		LocalDateTime base = ZonedDateTime.parse("2019-11-21T09:59:51.312Z").toLocalDateTime();
+		Random random = new Random(15);
+		
+		for(TravelRepository repository : List.of(new InMemoryTravelRepository(), new ColumnarTravelRepository())) {
+			
+			List<Travel> travels = new ArrayList<>();
+			for(long id = 1; id <= 3000; id++) {
+				LocalDateTime startDate = base.plusHours(random.nextInt(24 * 365));
+				LocalDateTime endDate = id % 3 == 0 ? null : startDate.plusHours(random.nextInt(24 * 30));
+				Travel travel = new Travel(id, "ORDER-" + id, BigDecimal.ONE, startDate, endDate, 
+						endDate == null ? TravelTypeEnum.ONE_WAY : TravelTypeEnum.RETURN);
+				travels.add(travel);
+				repository.save(travel);
+			}
+			
+			Travel moved = new Travel(10L, "ORDER-10", BigDecimal.ONE, base.minusYears(1), base.minusYears(1).plusDays(2), 
+					TravelTypeEnum.RETURN);
+			travels.set(9, moved);
+			repository.save(moved);
+			
+			for(int i = 0; i < 50; i++) {
+				LocalDateTime from = base.minusYears(1).plusHours(random.nextInt(24 * 730));
+				LocalDateTime to = i % 5 == 0 ? from : from.plusHours(random.nextInt(24 * 10));
+				
+				long[] expected = travels.stream()
+						.filter(t -> !t.getStartDate().isAfter(to) 
+								&& !(t.getEndDate() != null ? t.getEndDate() : t.getStartDate()).isBefore(from))
+						.sorted(Comparator.comparing(Travel::getStartDate).thenComparing(Travel::getId))
+						.mapToLong(Travel::getId).toArray();
+				assertArrayEquals(expected, repository.findActive(from, to, null, null, travels.size()).stream()
+						.mapToLong(Travel::getId).toArray());
+				
+				List<Travel> paged = new ArrayList<>();
+				List<Travel> page = repository.findActivePage(from, to, null, null, 7, t -> t.getId() % 4 != 0);
+				while(!page.isEmpty()) {
+					paged.addAll(page);
+					Travel last = paged.get(paged.size() - 1);
+					page = repository.findActivePage(from, to, last.getStartDate(), last.getId(), 7, t -> t.getId() % 4 != 0);
+				}
+				assertArrayEquals(Arrays.stream(expected).filter(id -> id % 4 != 0).toArray(), 
+						paged.stream().mapToLong(Travel::getId).toArray());
+			}
+			
+			List<Travel> page = repository.findActivePage(moved.getStartDate().plusDays(1), moved.getStartDate().plusDays(1), 
+					null, null, 100, t -> true);
+			assertEquals(1, page.size());
+			assertEquals(Long.valueOf(10), page.get(0).getId());
+			
+			Travel oneWay = travels.get(2);
+			assertTrue(repository.findActivePage(oneWay.getStartDate(), oneWay.getStartDate(), oneWay.getStartDate(), 2L, 
+					100, t -> true).stream().anyMatch(t -> t.getId().equals(oneWay.getId())));
+			assertTrue(repository.findActivePage(oneWay.getStartDate(), oneWay.getStartDate(), oneWay.getStartDate(), 3L, 
+					100, t -> true).stream().noneMatch(t -> t.getId().equals(oneWay.getId())));
+			
+			repository.deleteAll();
+			assertTrue(repository.findActive(base.minusYears(2), base.plusYears(2), null, null, 100).isEmpty());
+		}
+	}
+	
+	@Test
+	@Order(16)
+	public void shouldReturnSameJsonFromTravelJsonCache() throws Exception {
+		
+		var configuration = new JacksonConfiguration();
+		var cache = configuration.travelJsonCache(true);
+		ObjectMapper mapper = Jackson2ObjectMapperBuilder.json()
+				.modulesToInstall(configuration.afterburnerModule(), configuration.travelJsonCacheModule(cache)).build();
+		ObjectMapper uncachedMapper = Jackson2ObjectMapperBuilder.json().modulesToInstall(configuration.afterburnerModule()).build();
+		
+		LocalDateTime startDate = ZonedDateTime.parse("2019-11-21T09:59:51.312Z").toLocalDateTime();
+		List<Travel> travels = new ArrayList<>();
+		for(long id = 1; id <= 100; id++) {
+			travels.add(new Travel(id, "ORDER-" + id, new BigDecimal("22.80"), startDate, 
+					id % 2 == 0 ? startDate.plusDays(id) : null, id % 2 == 0 ? TravelTypeEnum.RETURN : TravelTypeEnum.ONE_WAY));
+		}
+		String expected = uncachedMapper.writeValueAsString(travels);
+		
+		for(Travel travel : travels) {
+			cache.put(travel, mapper.writeValueAsBytes(travel));
+		}
+		assertEquals(100, cache.size());
+		assertEquals(expected, new String(mapper.writeValueAsBytes(travels), StandardCharsets.UTF_8));
+		assertEquals(uncachedMapper.writerWithDefaultPrettyPrinter().writeValueAsString(travels), 
+				mapper.writerWithDefaultPrettyPrinter().writeValueAsString(travels));
+		
+		travels.get(0).setAmount(new BigDecimal("22.8"));
+		assertNull(cache.get(travels.get(0)));
+		assertTrue(mapper.writeValueAsString(travels.get(0)).contains("\"amount\":22.8,"));
+		
+		cache.clear();
+		assertNull(cache.get(travels.get(1)));
+	}
+	
+	@Test
+	@Order(17)
+	public void shouldReturnFirstCompressedChunkBeforeTheBodyCompletes() throws Exception {
+		
+		byte[] first = "[{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+		byte[] rest = ",{\"id\":2}]".getBytes(StandardCharsets.UTF_8);
+		
+		var request = new MockHttpServletRequest("GET", "/api-travels/travels/export");
+		request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+		var response = new MockHttpServletResponse();
+		var firstChunk = new ByteArrayOutputStream();
+		
+		var servlet = new HttpServlet() {
+			
+			private static final long serialVersionUID = 1L;
+			
+			@Override
+			protected void service(HttpServletRequest req, HttpServletResponse res) throws IOException {
+				
+				ServletOutputStream out = res.getOutputStream();
+				out.write(first);
+				out.flush();
+				
+				assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+				try(var gzip = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+					firstChunk.write(gzip.readNBytes(first.length));
+				}
+				
+				out.write(rest);
+			}
+		};
+		
+		new CompressionFilter(6, 3, 2048).doFilter(request, response, new MockFilterChain(servlet));
+		
+		assertArrayEquals(first, firstChunk.toByteArray());
+		try(var gzip = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+			assertEquals("[{\"id\":1},{\"id\":2}]", new String(gzip.readAllBytes(), StandardCharsets.UTF_8));
+		}
+	}
+	
+	@Test
+	@Order(18)
+	public void shouldReturnMinAndMaxOfAggregateAfterRemovals() {
+		
+		var aggregator = new StatisticAggregator();
+		List<BigDecimal> amounts = new ArrayList<>();
+		Random random = new Random(42);
+		
+		for(int i = 0; i < 2_000; i++) {
+			BigDecimal amount = i % 100 == 0 ? BigDecimal.valueOf(random.nextInt(100_000), 3) 
+					: BigDecimal.valueOf(random.nextInt(10_000), 2);
+			aggregator.add(amount);
+			amounts.add(amount);
+		}
+		
+		while(amounts.size() > 1) {
+			
+			amounts.sort(null);
+			BigDecimal removed = amounts.remove(random.nextInt(4) == 0 ? 0 : amounts.size() - 1);
+			aggregator.remove(removed);
+			
+			Statistic statistic = aggregator.toStatistic();
+			assertEquals(0, amounts.get(0).compareTo(statistic.getMin()));
+			assertEquals(0, amounts.get(amounts.size() - 1).compareTo(statistic.getMax()));
+			assertEquals(amounts.size(), statistic.getCount());
+		}
+		
+		aggregator.remove(amounts.get(0));
+		assertNull(aggregator.toStatistic().getMin());
+		assertNull(aggregator.toStatistic().getMax());
+	}
+	
 	@AfterAll
 	public void tearDown() {
 		travelsService.clearObjects();